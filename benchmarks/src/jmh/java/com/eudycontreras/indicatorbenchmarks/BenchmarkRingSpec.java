@@ -0,0 +1,170 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class BenchmarkRingSpec implements RingSpec {
+
+    private final int shapeType;
+
+    private final boolean useColorInterpolation;
+
+    private final ColorLookupTable colorTable;
+
+    public BenchmarkRingSpec(int shapeType, boolean useColorInterpolation, ColorLookupTable colorTable) {
+        this.shapeType = shapeType;
+        this.useColorInterpolation = useColorInterpolation;
+        this.colorTable = colorTable;
+    }
+
+    @Override
+    public int getShapeType() {
+        return shapeType;
+    }
+
+    @Override
+    public int getType() {
+        return TYPE_INDICATOR;
+    }
+
+    @Override
+    public int getColor() {
+        return 0xFFFFFFFF;
+    }
+
+    @Override
+    public int getColorStart() {
+        return 0xFF2196F3;
+    }
+
+    @Override
+    public int getColorEnd() {
+        return 0x00E91E63;
+    }
+
+    @Override
+    public int getStrokeColor() {
+        return 0xFFFFFFFF;
+    }
+
+    @Override
+    public int getInnerOutlineColor() {
+        return 0xFFFFFFFF;
+    }
+
+    @Override
+    public boolean isShowBorderStroke() {
+        return false;
+    }
+
+    @Override
+    public boolean isShowInnerOutline() {
+        return false;
+    }
+
+    @Override
+    public boolean isUseAnalyticClip() {
+        return false;
+    }
+
+    @Override
+    public boolean isUseColorInterpolation() {
+        return useColorInterpolation;
+    }
+
+    @Override
+    public ColorLookupTable getColorTable() {
+        return colorTable;
+    }
+
+    @Override
+    public float getX() {
+        return 540f;
+    }
+
+    @Override
+    public float getY() {
+        return 960f;
+    }
+
+    @Override
+    public float getCenterX() {
+        return 540f;
+    }
+
+    @Override
+    public float getCenterY() {
+        return 960f;
+    }
+
+    @Override
+    public float getMinWidth() {
+        return 96f;
+    }
+
+    @Override
+    public float getMinHeight() {
+        return 48f;
+    }
+
+    @Override
+    public float getMaxWidth() {
+        return 384f;
+    }
+
+    @Override
+    public float getMaxHeight() {
+        return 192f;
+    }
+
+    @Override
+    public float getMinRadius() {
+        return 48f;
+    }
+
+    @Override
+    public float getMaxRadius() {
+        return 192f;
+    }
+
+    @Override
+    public float getMinOpacity() {
+        return 0f;
+    }
+
+    @Override
+    public float getMaxOpacity() {
+        return 1f;
+    }
+
+    @Override
+    public float getClipRadius() {
+        return 48f;
+    }
+
+    @Override
+    public float getCornerRadius() {
+        return 16f;
+    }
+
+    @Override
+    public float getStrokeWidth() {
+        return 4f;
+    }
+
+    @Override
+    public float getInnerOutlineWidth() {
+        return 2f;
+    }
+}
@@ -0,0 +1,61 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.Bounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@State(Scope.Thread)
+public class BoundsBenchmark {
+
+    @Param({"16", "128", "1024"})
+    public int pointCount;
+
+    private final Bounds bounds = new Bounds(0, 0, 1080, 1920);
+
+    private float[] pointsX;
+    private float[] pointsY;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(pointCount);
+
+        pointsX = new float[pointCount];
+        pointsY = new float[pointCount];
+
+        for (int i = 0; i < pointCount; i++) {
+            pointsX[i] = (random.nextFloat() * 1.5f - 0.25f) * bounds.getWidth();
+            pointsY[i] = (random.nextFloat() * 1.5f - 0.25f) * bounds.getHeight();
+        }
+    }
+
+    @Benchmark
+    public void inRange(Blackhole blackhole) {
+        for (int i = 0; i < pointCount; i++) {
+            blackhole.consume(bounds.inRange(pointsX[i], pointsY[i]));
+        }
+    }
+
+    @Benchmark
+    public void inRangeWithRadius(Blackhole blackhole) {
+        for (int i = 0; i < pointCount; i++) {
+            blackhole.consume(bounds.inRange(pointsX[i], pointsY[i], 16f));
+        }
+    }
+}
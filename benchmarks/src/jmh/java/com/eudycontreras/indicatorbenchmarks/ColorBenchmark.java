@@ -0,0 +1,83 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.color.ColorUtility;
+import com.eudycontreras.indicatorcore.color.ColorUtility.SoulColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@State(Scope.Thread)
+public class ColorBenchmark {
+
+    private static final int START_COLOR = 0xFF2196F3;
+    private static final int END_COLOR = 0x00E91E63;
+
+    @Param({"1", "16", "256"})
+    public int sampleCount;
+
+    private final SoulColor start = new SoulColor(START_COLOR);
+    private final SoulColor end = new SoulColor(END_COLOR);
+    private final SoulColor result = new SoulColor();
+
+    private final ColorLookupTable colorTable = new ColorLookupTable();
+
+    private float[] amounts;
+
+    @Setup
+    public void setup() {
+        amounts = new float[sampleCount];
+
+        for (int i = 0; i < sampleCount; i++) {
+            amounts[i] = sampleCount > 1 ? (float) i / (sampleCount - 1) : 0.5f;
+        }
+
+        colorTable.bake(START_COLOR, END_COLOR, ColorLookupTable.INTERPOLATION_RGB);
+    }
+
+    @Benchmark
+    public void interpolateColor(Blackhole blackhole) {
+        for (float amount : amounts) {
+            blackhole.consume(ColorUtility.interpolateColor(START_COLOR, END_COLOR, amount));
+        }
+    }
+
+    @Benchmark
+    public void interpolateSoulColor(Blackhole blackhole) {
+        for (float amount : amounts) {
+            ColorUtility.interpolateColor(start, end, amount, result);
+
+            blackhole.consume(result.toColor());
+        }
+    }
+
+    @Benchmark
+    public void lookupColor(Blackhole blackhole) {
+        for (float amount : amounts) {
+            blackhole.consume(colorTable.getColor(amount));
+        }
+    }
+
+    @Benchmark
+    public void soulColorToColor(Blackhole blackhole) {
+        for (int i = 0; i < sampleCount; i++) {
+            result.setRed(i & 0xFF);
+
+            blackhole.consume(result.toColor());
+        }
+    }
+}
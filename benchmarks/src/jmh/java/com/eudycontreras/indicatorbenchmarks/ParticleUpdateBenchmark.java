@@ -0,0 +1,91 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.particles.ParticleSimulation;
+import com.eudycontreras.indicatorcore.particles.ParticleState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@State(Scope.Thread)
+public class ParticleUpdateBenchmark {
+
+    private static final float LIFE_TIME = 1000f;
+    private static final float FRAME_DURATION = 16f;
+
+    @Param({"16", "128", "1024"})
+    public int particleCount;
+
+    private final Bounds bounds = new Bounds(0, 0, 1080, 1920);
+
+    private ParticleState[] particles;
+
+    private ParticleSimulation simulation;
+
+    /**
+     * Particles are respawned before every iteration so each one measures the
+     * same number of live particles drifting inside the bounds.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        Random random = new Random(particleCount);
+
+        particles = new ParticleState[particleCount];
+        simulation = new ParticleSimulation(particleCount);
+
+        for (int i = 0; i < particleCount; i++) {
+            float x = random.nextFloat() * bounds.getWidth();
+            float y = random.nextFloat() * bounds.getHeight();
+            float velX = random.nextFloat() - 0.5f;
+            float velY = random.nextFloat() - 0.5f;
+            float radius = 4f + random.nextFloat() * 12f;
+
+            particles[i] = new ParticleState(LIFE_TIME, x, y, velX, velY, radius, 0xFFFFFFFF, bounds);
+            simulation.add(LIFE_TIME, x, y, velX, velY, radius, 0xFFFFFFFF);
+        }
+
+        simulation.setBounds(bounds);
+    }
+
+    @Benchmark
+    public void updateParticles(Blackhole blackhole) {
+        for (ParticleState particle : particles) {
+            particle.update();
+
+            blackhole.consume(particle.isAlive());
+        }
+    }
+
+    @Benchmark
+    public void updateParticlesTimed(Blackhole blackhole) {
+        for (ParticleState particle : particles) {
+            particle.update(FRAME_DURATION, 0.5f);
+
+            blackhole.consume(particle.isAlive());
+        }
+    }
+
+    @Benchmark
+    public int updateSimulation() {
+        simulation.update();
+
+        return simulation.getCount();
+    }
+}
@@ -0,0 +1,73 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.geometry.RingState;
+import com.eudycontreras.indicatorcore.render.RasterRenderer;
+import com.eudycontreras.indicatorcore.render.RingPainter;
+import com.eudycontreras.indicatorcore.timing.RingTiming;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    private static final long DURATION = 2000L;
+
+    @Param({"1", "4", "16"})
+    public int ringCount;
+
+    @Param({"0", "1"})
+    public int shapeType;
+
+    private RingSpec spec;
+    private RingState[] rings;
+
+    private RasterRenderer renderer;
+
+    @Setup
+    public void setup() {
+        spec = new BenchmarkRingSpec(shapeType, true, null);
+        rings = new RingState[ringCount];
+        renderer = new RasterRenderer(1080, 1920);
+
+        for (int i = 0; i < ringCount; i++) {
+            rings[i] = new RingState();
+            rings[i].update(spec, RingTiming.getFraction((DURATION / ringCount) * i, DURATION, RingTiming.INFINITE, RingTiming.REPEAT_MODE_RESTART));
+        }
+    }
+
+    /**
+     * Renders one frame of rings into the software raster the way the view renders
+     * them onto its canvas: a single clip shared by every ring of the frame.
+     */
+    @Benchmark
+    public int renderFrame() {
+        renderer.clear(0);
+
+        int count = renderer.save();
+
+        RingPainter.clipOut(renderer, spec);
+
+        for (RingState ring : rings) {
+            RingPainter.draw(renderer, spec, ring);
+        }
+
+        renderer.restoreToCount(count);
+
+        return renderer.getPixel(540, 960);
+    }
+}
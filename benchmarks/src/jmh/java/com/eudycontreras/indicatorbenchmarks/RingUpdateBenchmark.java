@@ -0,0 +1,85 @@
+package com.eudycontreras.indicatorbenchmarks;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.geometry.RingState;
+import com.eudycontreras.indicatorcore.timing.RingTiming;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@State(Scope.Thread)
+public class RingUpdateBenchmark {
+
+    private static final long DURATION = 2000L;
+    private static final long FRAME_TIME = 16L;
+
+    @Param({"1", "4", "16", "64"})
+    public int ringCount;
+
+    @Param({"0", "1"})
+    public int shapeType;
+
+    @Param({"none", "interpolate", "table"})
+    public String colorMode;
+
+    private RingSpec spec;
+    private RingState[] rings;
+
+    private long[] delays;
+
+    private long playTime;
+
+    @Setup
+    public void setup() {
+        ColorLookupTable colorTable = null;
+
+        if (colorMode.equals("table")) {
+            colorTable = new ColorLookupTable();
+            colorTable.bake(0xFF2196F3, 0x00E91E63, ColorLookupTable.INTERPOLATION_RGB);
+        }
+
+        spec = new BenchmarkRingSpec(shapeType, !colorMode.equals("none"), colorTable);
+        rings = new RingState[ringCount];
+        delays = new long[ringCount];
+
+        for (int i = 0; i < ringCount; i++) {
+            rings[i] = new RingState();
+            delays[i] = (DURATION / ringCount) * i;
+        }
+    }
+
+    /**
+     * One frame of the ring update loop: the fraction of every ring is derived
+     * from the shared play time and the ring geometry, opacity and color are
+     * recomputed from it, which is the work done by ParticleIndicator.update.
+     */
+    @Benchmark
+    public void updateRings(Blackhole blackhole) {
+        playTime += FRAME_TIME;
+
+        for (int i = 0; i < ringCount; i++) {
+            RingState ring = rings[i];
+
+            float time = RingTiming.getFraction(playTime - delays[i], DURATION, RingTiming.INFINITE, RingTiming.REPEAT_MODE_RESTART);
+
+            ring.update(spec, time);
+
+            blackhole.consume(ring.getColor());
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package com.eudycontreras.indicatoreffectlib;
+package com.eudycontreras.indicatorcore;
 
 import androidx.annotation.RestrictTo;
 
@@ -13,7 +13,7 @@ import androidx.annotation.RestrictTo;
  * @version 1.0
  * @since   2018-03-31
  */
-@RestrictTo(RestrictTo.Scope.LIBRARY)
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
 public class Bounds {
 
     private final float x;
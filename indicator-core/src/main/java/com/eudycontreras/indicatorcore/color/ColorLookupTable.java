@@ -0,0 +1,208 @@
+package com.eudycontreras.indicatorcore.color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class ColorLookupTable {
+
+    public static final int INTERPOLATION_RGB = 0;
+    public static final int INTERPOLATION_LINEAR = 1;
+    public static final int INTERPOLATION_PERCEPTUAL = 2;
+
+    public static final int DEFAULT_SIZE = 256;
+
+    private int[] colors;
+
+    private int startColor;
+    private int endColor;
+    private int mode = -1;
+
+    private float maxIndex;
+
+    public ColorLookupTable() {
+        this(DEFAULT_SIZE);
+    }
+
+    public ColorLookupTable(int size) {
+        setSize(size);
+    }
+
+    /**
+     * Bakes the gradient between the given colors into the table. Nothing
+     * is recomputed when the colors and mode match the current table.
+     *
+     * @param start the color at amount zero
+     * @param end the color at amount one
+     * @param mode the color space the gradient is interpolated in
+     */
+    public void bake(@ColorInt int start, @ColorInt int end, int mode) {
+        if (start == startColor && end == endColor && mode == this.mode)
+            return;
+
+        this.startColor = start;
+        this.endColor = end;
+        this.mode = mode;
+
+        switch (mode) {
+            case INTERPOLATION_LINEAR:
+                bakeLinear(start, end);
+                break;
+            case INTERPOLATION_PERCEPTUAL:
+                bakePerceptual(start, end);
+                break;
+            default:
+                ColorUtility.interpolateColors(start, end, colors);
+                break;
+        }
+    }
+
+    /**
+     * Returns whether baking the given gradient into a table of the given size
+     * would produce the contents this table already holds.
+     */
+    public boolean matches(@ColorInt int start, @ColorInt int end, int mode, int size) {
+        return start == startColor && end == endColor && mode == this.mode && colors.length == Math.max(2, size);
+    }
+
+    @ColorInt
+    public int getColor(float amount) {
+        int index = (int) ((amount * maxIndex) + 0.5f);
+
+        if (index < 0)
+            return colors[0];
+
+        if (index >= colors.length)
+            return colors[colors.length - 1];
+
+        return colors[index];
+    }
+
+    public int getSize() {
+        return colors.length;
+    }
+
+    public void setSize(int size) {
+        if (colors != null && colors.length == size)
+            return;
+
+        this.colors = new int[Math.max(2, size)];
+        this.maxIndex = colors.length - 1;
+        this.mode = -1;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    private void bakeLinear(int start, int end) {
+        float startRed = toLinear(ColorUtility.red(start));
+        float startGreen = toLinear(ColorUtility.green(start));
+        float startBlue = toLinear(ColorUtility.blue(start));
+
+        float endRed = toLinear(ColorUtility.red(end));
+        float endGreen = toLinear(ColorUtility.green(end));
+        float endBlue = toLinear(ColorUtility.blue(end));
+
+        int alpha = start & 0xFF000000;
+
+        for (int i = 0; i < colors.length; i++) {
+            float amount = i / maxIndex;
+
+            int red = fromLinear(startRed + ((endRed - startRed) * amount));
+            int green = fromLinear(startGreen + ((endGreen - startGreen) * amount));
+            int blue = fromLinear(startBlue + ((endBlue - startBlue) * amount));
+
+            colors[i] = alpha | (red << 16) | (green << 8) | blue;
+        }
+    }
+
+    private void bakePerceptual(int start, int end) {
+        float[] startLab = toOklab(start, new float[3]);
+        float[] endLab = toOklab(end, new float[3]);
+        float[] lab = new float[3];
+
+        int alpha = start & 0xFF000000;
+
+        for (int i = 0; i < colors.length; i++) {
+            float amount = i / maxIndex;
+
+            lab[0] = startLab[0] + ((endLab[0] - startLab[0]) * amount);
+            lab[1] = startLab[1] + ((endLab[1] - startLab[1]) * amount);
+            lab[2] = startLab[2] + ((endLab[2] - startLab[2]) * amount);
+
+            colors[i] = alpha | fromOklab(lab);
+        }
+    }
+
+    private static float toLinear(int channel) {
+        float value = channel / 255f;
+
+        if (value <= 0.04045f)
+            return value / 12.92f;
+
+        return (float) Math.pow((value + 0.055f) / 1.055f, 2.4f);
+    }
+
+    private static int fromLinear(float value) {
+        float encoded;
+
+        if (value <= 0.0031308f) {
+            encoded = value * 12.92f;
+        } else {
+            encoded = (float) (1.055f * Math.pow(value, 1f / 2.4f) - 0.055f);
+        }
+
+        int channel = Math.round(encoded * 255f);
+
+        if (channel < 0)
+            return 0;
+        if (channel > 255)
+            return 255;
+
+        return channel;
+    }
+
+    private static float[] toOklab(int color, float[] lab) {
+        float red = toLinear(ColorUtility.red(color));
+        float green = toLinear(ColorUtility.green(color));
+        float blue = toLinear(ColorUtility.blue(color));
+
+        float l = (float) Math.cbrt(0.4122214708f * red + 0.5363325363f * green + 0.0514459929f * blue);
+        float m = (float) Math.cbrt(0.2119034982f * red + 0.6806995451f * green + 0.1073969566f * blue);
+        float s = (float) Math.cbrt(0.0883024619f * red + 0.2817188376f * green + 0.6299787005f * blue);
+
+        lab[0] = 0.2104542553f * l + 0.7936177850f * m - 0.0040720468f * s;
+        lab[1] = 1.9779984951f * l - 2.4285922050f * m + 0.4505937099f * s;
+        lab[2] = 0.0259040371f * l + 0.7827717662f * m - 0.8086757660f * s;
+
+        return lab;
+    }
+
+    private static int fromOklab(float[] lab) {
+        float l = lab[0] + 0.3963377774f * lab[1] + 0.2158037573f * lab[2];
+        float m = lab[0] - 0.1055613458f * lab[1] - 0.0638541728f * lab[2];
+        float s = lab[0] - 0.0894841775f * lab[1] - 1.2914855480f * lab[2];
+
+        l = l * l * l;
+        m = m * m * m;
+        s = s * s * s;
+
+        int red = fromLinear(4.0767416621f * l - 3.3077115913f * m + 0.2309699292f * s);
+        int green = fromLinear(-1.2684380046f * l + 2.6097574011f * m - 0.3413193965f * s);
+        int blue = fromLinear(-0.0041960863f * l - 0.7034186147f * m + 1.7076147010f * s);
+
+        return (red << 16) | (green << 8) | blue;
+    }
+}
@@ -0,0 +1,213 @@
+package com.eudycontreras.indicatorcore.color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class ColorUtility {
+
+    public static int alpha(@ColorInt int color) {
+        return color >>> 24;
+    }
+
+    public static int red(@ColorInt int color) {
+        return (color >> 16) & 0xFF;
+    }
+
+    public static int green(@ColorInt int color) {
+        return (color >> 8) & 0xFF;
+    }
+
+    public static int blue(@ColorInt int color) {
+        return color & 0xFF;
+    }
+
+    @ColorInt
+    public static int argb(int a, int r, int g, int b) {
+        return ((a & 0xFF) << 24) | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+    }
+
+    public static int colorDecToHex(int r, int g, int b) {
+        return argb(255, r, g, b);
+    }
+
+    public static int colorDecToHex(int a, int r, int g, int b) {
+        return argb(a, r, g, b);
+    }
+
+    public static int adjustAlpha(@ColorInt int color, float factor) {
+        int alpha = Math.round(alpha(color) * factor);
+        return (alpha << 24) | (color & 0x00FFFFFF);
+    }
+
+    public static void adjustAlpha(int[] palette, float factor, int[] result) {
+        for (int i = 0; i < palette.length; i++) {
+            result[i] = adjustAlpha(palette[i], factor);
+        }
+    }
+
+    public static void adjustAlpha(SoulColor color, float factor) {
+       color.setAlpha(Math.round(color.getAlpha() * factor));
+    }
+
+    public static void interpolateColor(SoulColor start, SoulColor end, float amount, SoulColor result) {
+        result.setColor(start);
+
+        result.setRed((int)(start.red + ((end.red - start.red) * amount)));
+        result.setGreen((int)(start.green + ((end.green - start.green) * amount)));
+        result.setBlue((int)(start.blue + ((end.blue - start.blue) * amount)));
+    }
+
+    @ColorInt
+    public static int interpolateColor(@ColorInt int start, @ColorInt int end, float amount) {
+        int red = red(start);
+        int green = green(start);
+        int blue = blue(start);
+
+        red = (int) (red + ((red(end) - red) * amount));
+        green = (int) (green + ((green(end) - green) * amount));
+        blue = (int) (blue + ((blue(end) - blue) * amount));
+
+        return (start & 0xFF000000) | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Fills the given palette with colors evenly spread from the start color
+     * to the end color, both inclusive. The alpha of the start color is kept.
+     */
+    public static void interpolateColors(@ColorInt int start, @ColorInt int end, int[] result) {
+        int last = result.length - 1;
+
+        for (int i = 0; i <= last; i++) {
+            result[i] = interpolateColor(start, end, last > 0 ? (float) i / (float) last : 0f);
+        }
+    }
+
+    public static SoulColor toSoulColor(int color){
+        return new SoulColor(color);
+    }
+
+    public static class SoulColor{
+
+        private int packedColor;
+
+        private int red;
+        private int green;
+        private int blue;
+        private int alpha;
+
+        private boolean dirty = true;
+
+        public SoulColor(int alpha, int red, int green, int blue) {
+            this.alpha = alpha;
+            this.red = red;
+            this.green = green;
+            this.blue = blue;
+        }
+
+        public SoulColor(int red, int green, int blue) {
+            this(1,red,green,blue);
+        }
+
+        public SoulColor(int color){
+            setColor(color);
+        }
+
+        public SoulColor(){
+            this(0x000000);
+        }
+
+        public void setColor(SoulColor color){
+            this.alpha = color.alpha;
+            this.red = color.red;
+            this.green = color.green;
+            this.blue = color.blue;
+            this.packedColor = color.packedColor;
+            this.dirty = color.dirty;
+        }
+
+        public void setColor(int color){
+            this.alpha = ColorUtility.alpha(color);
+            this.red = ColorUtility.red(color);
+            this.green = ColorUtility.green(color);
+            this.blue = ColorUtility.blue(color);
+            this.packedColor = color;
+            this.dirty = false;
+        }
+
+        public int getRed() {
+            return red;
+        }
+
+        public void setRed(int red) {
+            if (this.red != red) {
+                this.red = red;
+                this.dirty = true;
+            }
+        }
+
+        public int getGreen() {
+            return green;
+        }
+
+        public void setGreen(int green) {
+            if (this.green != green) {
+                this.green = green;
+                this.dirty = true;
+            }
+        }
+
+        public int getBlue() {
+            return blue;
+        }
+
+        public void setBlue(int blue) {
+            if (this.blue != blue) {
+                this.blue = blue;
+                this.dirty = true;
+            }
+        }
+
+        public int getAlpha() {
+            return alpha;
+        }
+
+        public void setAlpha(int alpha) {
+            if (this.alpha != alpha) {
+                this.alpha = alpha;
+                this.dirty = true;
+            }
+        }
+
+        public void setAlpha(float alpha) {
+            setAlpha(Math.round(255f * alpha));
+        }
+
+        /**
+         * Returns the packed ARGB value of this color. The value is only
+         * repacked after one of the channels has changed.
+         */
+        public int toColor(){
+            if (dirty) {
+                packedColor = (alpha << 24) | (red << 16) | (green << 8) | blue;
+                dirty = false;
+            }
+            return packedColor;
+        }
+
+        public static SoulColor copy(SoulColor color){
+            return new SoulColor(color.alpha,color.red,color.green,color.blue);
+        }
+    }
+}
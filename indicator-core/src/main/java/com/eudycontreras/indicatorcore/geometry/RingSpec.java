@@ -0,0 +1,80 @@
+package com.eudycontreras.indicatorcore.geometry;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public interface RingSpec {
+
+    int SHAPE_CIRCLE = 0;
+    int SHAPE_RECTANGLE = 1;
+
+    int TYPE_OUTLINE = 0;
+    int TYPE_FILLED = 1;
+    int TYPE_INDICATOR = 2;
+
+    int getType();
+
+    int getShapeType();
+
+    int getColor();
+
+    int getColorStart();
+
+    int getColorEnd();
+
+    int getStrokeColor();
+
+    int getInnerOutlineColor();
+
+    boolean isShowBorderStroke();
+
+    boolean isShowInnerOutline();
+
+    boolean isUseAnalyticClip();
+
+    boolean isUseColorInterpolation();
+
+    ColorLookupTable getColorTable();
+
+    float getX();
+
+    float getY();
+
+    float getCenterX();
+
+    float getCenterY();
+
+    float getMinWidth();
+
+    float getMinHeight();
+
+    float getMaxWidth();
+
+    float getMaxHeight();
+
+    float getMinRadius();
+
+    float getMaxRadius();
+
+    float getMinOpacity();
+
+    float getMaxOpacity();
+
+    float getClipRadius();
+
+    float getCornerRadius();
+
+    float getStrokeWidth();
+
+    float getInnerOutlineWidth();
+}
@@ -0,0 +1,124 @@
+package com.eudycontreras.indicatorcore.geometry;
+
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.color.ColorUtility;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class RingState {
+
+    private float radius;
+
+    private float left;
+    private float top;
+
+    private float width;
+    private float height;
+
+    private float opacity;
+
+    private int color;
+
+    /**
+     * Computes the geometry, opacity and color of a ring described by the given
+     * specification at the given point of its animation.
+     *
+     * @param spec the specification shared by every ring of an indicator
+     * @param time the interpolated progress of the ring between 0 and 1
+     */
+    public void update(RingSpec spec, float time) {
+        if (spec.getShapeType() == RingSpec.SHAPE_CIRCLE) {
+            radius = spec.getMinRadius() + ((spec.getMaxRadius() - spec.getMinRadius()) * time);
+        } else {
+            width = spec.getMinWidth() + ((spec.getMaxWidth() - spec.getMinWidth()) * time);
+            height = spec.getMinHeight() + ((spec.getMaxHeight() - spec.getMinHeight()) * time);
+
+            left = spec.getX() - (width / 2);
+            top = spec.getY() - (height / 2);
+        }
+
+        float minOpacity = spec.getMinOpacity();
+        float maxOpacity = spec.getMaxOpacity();
+
+        opacity = minOpacity + ((maxOpacity - minOpacity) * (maxOpacity - minOpacity - time));
+
+        if (opacity < 0f)
+            opacity = 0f;
+        if (opacity > 1f)
+            opacity = 1f;
+
+        if (spec.isUseColorInterpolation()) {
+            ColorLookupTable colorTable = spec.getColorTable();
+
+            if (colorTable != null) {
+                color = colorTable.getColor(time);
+            } else {
+                color = ColorUtility.interpolateColor(spec.getColorStart(), spec.getColorEnd(), time);
+            }
+        } else {
+            color = spec.getColor();
+        }
+    }
+
+    /**
+     * Collapses the ring so it covers nothing until its next update.
+     */
+    public void rewind() {
+        radius = 0;
+        width = 0;
+        height = 0;
+    }
+
+    public void reset() {
+        radius = 0;
+        left = 0;
+        top = 0;
+        width = 0;
+        height = 0;
+        opacity = 0;
+        color = 0;
+    }
+
+    public boolean isEmpty() {
+        return opacity <= 0f || (radius <= 0 && width <= 0 && height <= 0);
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public float getLeft() {
+        return left;
+    }
+
+    public float getTop() {
+        return top;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public float getOpacity() {
+        return opacity;
+    }
+
+    public int getColor() {
+        return color;
+    }
+}
@@ -0,0 +1,389 @@
+package com.eudycontreras.indicatorcore.particles;
+
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.timing.FixedStepAccumulator;
+
+import java.util.Arrays;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class ParticleSimulation {
+
+    public static final int FLAG_KILLED = 1;
+    public static final int FLAG_FADE = 1 << 1;
+    public static final int FLAG_SHRINK = 1 << 2;
+    public static final int FLAG_CHECK_BOUNDS = 1 << 3;
+    public static final int FLAG_ALWAYS_ALIVE = 1 << 4;
+
+    public static final int DEFAULT_FLAGS = FLAG_FADE | FLAG_SHRINK;
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float NO_TARGET = Integer.MIN_VALUE;
+
+    private int count;
+
+    private float[] centerX;
+    private float[] centerY;
+
+    private float[] targetX;
+    private float[] targetY;
+
+    private float[] velX;
+    private float[] velY;
+
+    private float[] varianceX;
+    private float[] varianceY;
+
+    private float[] radius;
+    private float[] actualRadius;
+    private float[] opacity;
+
+    private float[] lifeSpan;
+    private float[] decay;
+
+    private int[] color;
+    private int[] flags;
+
+    private Bounds bounds;
+
+    private final FixedStepAccumulator stepper = new FixedStepAccumulator();
+
+    public ParticleSimulation() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParticleSimulation(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    private void allocate(int capacity) {
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        targetX = new float[capacity];
+        targetY = new float[capacity];
+        velX = new float[capacity];
+        velY = new float[capacity];
+        varianceX = new float[capacity];
+        varianceY = new float[capacity];
+        radius = new float[capacity];
+        actualRadius = new float[capacity];
+        opacity = new float[capacity];
+        lifeSpan = new float[capacity];
+        decay = new float[capacity];
+        color = new int[capacity];
+        flags = new int[capacity];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= centerX.length)
+            return;
+
+        int size = Math.max(capacity, centerX.length * 2);
+
+        centerX = Arrays.copyOf(centerX, size);
+        centerY = Arrays.copyOf(centerY, size);
+        targetX = Arrays.copyOf(targetX, size);
+        targetY = Arrays.copyOf(targetY, size);
+        velX = Arrays.copyOf(velX, size);
+        velY = Arrays.copyOf(velY, size);
+        varianceX = Arrays.copyOf(varianceX, size);
+        varianceY = Arrays.copyOf(varianceY, size);
+        radius = Arrays.copyOf(radius, size);
+        actualRadius = Arrays.copyOf(actualRadius, size);
+        opacity = Arrays.copyOf(opacity, size);
+        lifeSpan = Arrays.copyOf(lifeSpan, size);
+        decay = Arrays.copyOf(decay, size);
+        color = Arrays.copyOf(color, size);
+        flags = Arrays.copyOf(flags, size);
+    }
+
+    /**
+     * Adds a particle with the same initial state a {@link ParticleState} built from these
+     * values would have after a call to {@link ParticleState#setRadius(float)}.
+     *
+     * @return the index of the added particle, valid until the next update or removal
+     */
+    public int add(float lifeTime, float x, float y, float velX, float velY, float varianceX, float varianceY, float radius, int color) {
+        ensureCapacity(count + 1);
+
+        int index = count++;
+
+        this.centerX[index] = x;
+        this.centerY[index] = y;
+        this.targetX[index] = NO_TARGET;
+        this.targetY[index] = NO_TARGET;
+        this.velX[index] = velX;
+        this.velY[index] = velY;
+        this.varianceX[index] = varianceX;
+        this.varianceY[index] = varianceY;
+        this.radius[index] = radius;
+        this.actualRadius[index] = radius;
+        this.opacity[index] = 1.0f;
+        this.lifeSpan[index] = 1.0f;
+        this.decay[index] = FixedStepAccumulator.STEP_SECONDS / lifeTime;
+        this.color[index] = color;
+        this.flags[index] = DEFAULT_FLAGS;
+
+        return index;
+    }
+
+    public int add(float lifeTime, float x, float y, float velX, float velY, float radius, int color) {
+        return add(lifeTime, x, y, velX, velY, 0, 0, radius, color);
+    }
+
+    /**
+     * Steps the simulation as many fixed steps as have elapsed since the previous frame,
+     * capped at {@link FixedStepAccumulator#getMaxSteps()}, so particles move at the same
+     * speed on every refresh rate.
+     *
+     * @param frameTimeNanos the vsync timestamp of the frame in nanoseconds
+     * @return the amount of steps simulated
+     */
+    public int update(long frameTimeNanos) {
+        int steps = stepper.advance(frameTimeNanos);
+
+        for (int i = 0; i < steps; i++) {
+            update();
+        }
+        return steps;
+    }
+
+    /**
+     * Steps every particle the same way {@link ParticleState#update()} does and then removes
+     * the particles which are no longer alive.
+     */
+    public void update() {
+        final int size = count;
+
+        final float[] centerX = this.centerX;
+        final float[] centerY = this.centerY;
+        final float[] velX = this.velX;
+        final float[] velY = this.velY;
+        final float[] varianceX = this.varianceX;
+        final float[] varianceY = this.varianceY;
+        final float[] lifeSpan = this.lifeSpan;
+        final float[] decay = this.decay;
+        final int[] flags = this.flags;
+
+        for (int i = 0; i < size; i++) {
+            centerX[i] += (velX[i] + varianceX[i]);
+            centerY[i] += (velY[i] + varianceY[i]);
+
+            if ((flags[i] & FLAG_KILLED) != 0) {
+                lifeSpan[i] -= decay[i];
+            }
+        }
+
+        compact();
+    }
+
+    /**
+     * Steps every particle the same way {@link ParticleState#update(float, float)} does and then
+     * removes the particles which are no longer alive.
+     */
+    public void update(float duration, float time) {
+        final int size = count;
+
+        final float[] centerX = this.centerX;
+        final float[] centerY = this.centerY;
+        final float[] targetX = this.targetX;
+        final float[] targetY = this.targetY;
+        final float[] velX = this.velX;
+        final float[] velY = this.velY;
+        final float[] varianceX = this.varianceX;
+        final float[] varianceY = this.varianceY;
+        final float[] radius = this.radius;
+        final float[] actualRadius = this.actualRadius;
+        final float[] opacity = this.opacity;
+        final float[] lifeSpan = this.lifeSpan;
+        final float[] decay = this.decay;
+        final int[] flags = this.flags;
+
+        for (int i = 0; i < size; i++) {
+            int flag = flags[i];
+
+            if (targetX[i] != NO_TARGET) {
+                velX[i] = (targetX[i] - centerX[i]) / duration;
+            }
+            if (targetY[i] != NO_TARGET) {
+                velY[i] = (targetY[i] - centerY[i]) / duration;
+            }
+
+            centerX[i] += ((velX[i] + varianceX[i]) * time);
+            centerY[i] += ((velY[i] + varianceY[i]) * time);
+
+            if ((flag & FLAG_SHRINK) != 0) {
+                radius[i] = actualRadius[i] * time;
+            }
+
+            if ((flag & FLAG_KILLED) != 0) {
+                lifeSpan[i] -= (decay[i] * time);
+            } else if ((flag & FLAG_FADE) != 0) {
+                opacity[i] = time;
+            }
+        }
+
+        compact();
+    }
+
+    /**
+     * Removes every dead particle by moving the last live particle into its slot.
+     * Particle order is not preserved.
+     */
+    private void compact() {
+        int i = 0;
+
+        while (i < count) {
+            if (isAlive(i)) {
+                i++;
+            } else {
+                remove(i);
+            }
+        }
+    }
+
+    public boolean isAlive(int index) {
+        int flag = flags[index];
+
+        if ((flag & FLAG_ALWAYS_ALIVE) != 0)
+            return true;
+
+        if (bounds != null) {
+            boolean inRange = true;
+
+            if ((flag & FLAG_CHECK_BOUNDS) != 0) {
+                float range = radius[index] * 2;
+                float x = centerX[index];
+                float y = centerY[index];
+
+                inRange = (x >= (bounds.getX() - range) && x < (bounds.getWidth() + range)) && (y >= (bounds.getY() - range) && y < (bounds.getHeight() + range));
+            }
+            return inRange && (lifeSpan[index] > 0) && (radius[index] > 0) && (opacity[index] > 0);
+        }
+        return lifeSpan[index] > 0;
+    }
+
+    public void remove(int index) {
+        int last = --count;
+
+        if (index == last)
+            return;
+
+        centerX[index] = centerX[last];
+        centerY[index] = centerY[last];
+        targetX[index] = targetX[last];
+        targetY[index] = targetY[last];
+        velX[index] = velX[last];
+        velY[index] = velY[last];
+        varianceX[index] = varianceX[last];
+        varianceY[index] = varianceY[last];
+        radius[index] = radius[last];
+        actualRadius[index] = actualRadius[last];
+        opacity[index] = opacity[last];
+        lifeSpan[index] = lifeSpan[last];
+        decay[index] = decay[last];
+        color[index] = color[last];
+        flags[index] = flags[last];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return centerX.length;
+    }
+
+    public void setBounds(Bounds bounds) {
+        this.bounds = bounds;
+    }
+
+    public Bounds getBounds() {
+        return bounds;
+    }
+
+    public FixedStepAccumulator getStepper() {
+        return stepper;
+    }
+
+    public void setFlag(int index, int flag, boolean enabled) {
+        if (enabled) {
+            flags[index] |= flag;
+        } else {
+            flags[index] &= ~flag;
+        }
+    }
+
+    public boolean hasFlag(int index, int flag) {
+        return (flags[index] & flag) != 0;
+    }
+
+    public void setTarget(int index, float x, float y) {
+        targetX[index] = x;
+        targetY[index] = y;
+    }
+
+    public void setDecay(int index, float decay) {
+        this.decay[index] = FixedStepAccumulator.STEP_SECONDS / decay;
+    }
+
+    public float getCenterX(int index) {
+        return centerX[index];
+    }
+
+    public float getCenterY(int index) {
+        return centerY[index];
+    }
+
+    public float getVelX(int index) {
+        return velX[index];
+    }
+
+    public float getVelY(int index) {
+        return velY[index];
+    }
+
+    public float getRadius(int index) {
+        return radius[index];
+    }
+
+    public void setRadius(int index, float radius) {
+        this.radius[index] = radius;
+        this.actualRadius[index] = radius;
+    }
+
+    public float getOpacity(int index) {
+        return opacity[index];
+    }
+
+    public void setOpacity(int index, float opacity) {
+        this.opacity[index] = opacity;
+    }
+
+    public float getLifeSpan(int index) {
+        return lifeSpan[index];
+    }
+
+    public int getColor(int index) {
+        return color[index];
+    }
+
+    public void setColor(int index, int color) {
+        this.color[index] = color;
+    }
+}
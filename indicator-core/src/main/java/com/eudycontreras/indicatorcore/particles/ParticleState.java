@@ -0,0 +1,378 @@
+package com.eudycontreras.indicatorcore.particles;
+
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.color.ColorUtility;
+import com.eudycontreras.indicatorcore.timing.FixedStepAccumulator;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class ParticleState {
+
+    public final static float DEFAULT_LIFE_TIME = 5;
+    public final static float DEFAULT_VELOCITY = 5;
+
+    protected float centerX;
+    protected float centerY;
+
+    protected float targetX = Integer.MIN_VALUE;
+    protected float targetY = Integer.MIN_VALUE;
+
+    protected float velX;
+    protected float velY;
+
+    protected float varianceX;
+    protected float varianceY;
+
+    protected float radiusRatio = 0.0f;
+    protected float actualRadius;
+    protected float radius;
+    protected float spacing;
+    protected float opacity = 1.0f;
+
+    protected float lifeSpan = 1.0f;
+    protected float decay;
+
+    private final float initialDecay;
+
+    protected boolean visible;
+    protected boolean killed;
+    protected boolean fade = true;
+    protected boolean shrink = true;
+    protected boolean checkBounds = false;
+    protected boolean alwaysAlive = false;
+
+    protected Bounds bounds;
+
+    protected ColorUtility.SoulColor color;
+    protected ColorUtility.SoulColor colorStart;
+    protected ColorUtility.SoulColor colorEnd;
+    protected ColorUtility.SoulColor strokeColor;
+    protected ColorUtility.SoulColor innerOutlineColor;
+
+    public ParticleState(float lifeTime, float x, float y, float velX, float velY, float varianceX, float varianceY, float radius, int color, Bounds bounds) {
+        this.centerX = x;
+        this.centerY = y;
+        this.velX = velX;
+        this.velY = velY;
+        this.varianceX = varianceX;
+        this.varianceY = varianceY;
+        this.radius = radius;
+        this.color = ColorUtility.toSoulColor(color);
+        this.bounds = bounds;
+        this.decay = FixedStepAccumulator.STEP_SECONDS / lifeTime;
+        this.initialDecay = decay;
+    }
+
+    public ParticleState(float lifeTime, float x, float y, float velX, float velY, float radius, int color, Bounds bounds) {
+        this(lifeTime, x, y, velX, velY, 0, 0, radius, color, bounds);
+    }
+
+    public ParticleState(float lifeTime, float x, float y, float radius, int color, Bounds bounds) {
+        this(lifeTime, x, y, 0, 0, radius, color, bounds);
+    }
+
+    public ParticleState(float x, float y, float radius, int color, Bounds bounds) {
+        this(Integer.MAX_VALUE, x, y, 0, 0, radius, color, bounds);
+    }
+
+    /**
+     * Restores the particle to its freshly constructed state so it can be reused.
+     * References to shared colors and bounds are dropped.
+     */
+    public void reset() {
+        centerX = 0;
+        centerY = 0;
+        targetX = Integer.MIN_VALUE;
+        targetY = Integer.MIN_VALUE;
+        velX = 0;
+        velY = 0;
+        varianceX = 0;
+        varianceY = 0;
+        radiusRatio = 0.0f;
+        actualRadius = 0;
+        radius = 0;
+        spacing = 0;
+        opacity = 1.0f;
+        lifeSpan = 1.0f;
+        decay = initialDecay;
+        visible = false;
+        killed = false;
+        fade = true;
+        shrink = true;
+        checkBounds = false;
+        alwaysAlive = false;
+        bounds = null;
+        color = null;
+        colorStart = null;
+        colorEnd = null;
+        strokeColor = null;
+        innerOutlineColor = null;
+    }
+
+    /**
+     * Advances the particle by one fixed step of {@link FixedStepAccumulator#STEP_SECONDS}.
+     * Velocities and decay are expressed per step.
+     */
+    public void update(){
+        centerX += (velX + varianceX);
+        centerY += (velY + varianceY);
+
+        if(killed) {
+            lifeSpan -= decay;
+        }
+    }
+
+    /**
+     * Advances the particle by as many fixed steps as the given accumulator reports for
+     * the given frame, so it moves at the same speed regardless of the refresh rate.
+     *
+     * @param stepper the accumulator tracking the frames of this particle
+     * @param frameTimeNanos the vsync timestamp of the frame in nanoseconds
+     */
+    public void update(FixedStepAccumulator stepper, long frameTimeNanos) {
+        for (int steps = stepper.advance(frameTimeNanos); steps > 0; steps--) {
+            update();
+        }
+    }
+
+    public void update(float duration, float time){
+
+        velX = targetX != Integer.MIN_VALUE ? ((targetX - centerX) / duration) : velX;
+        velY = targetY != Integer.MIN_VALUE ? ((targetY - centerY) / duration) : velY;
+
+        centerX += ((velX + varianceX) * time);
+        centerY += ((velY + varianceY) * time);
+
+        if(shrink){
+            radiusRatio = time;
+            radius = actualRadius * radiusRatio;
+        }
+
+        if(killed) {
+            lifeSpan -= (decay * time);
+        }else{
+            if(fade) {
+                opacity = time;
+            }
+        }
+    }
+
+    public float checkDistanceTo(ParticleState particle) {
+
+        float distanceX = this.centerX+radius - particle.getCenterX()+radius;
+        float distanceY = this.centerY+radius - particle.getCenterY()+radius;
+
+        return distanceX*distanceX + distanceY*distanceY;
+    }
+
+    public boolean isAlive() {
+       if(alwaysAlive){
+           return true;
+       }else{
+           if(bounds != null) {
+               return (!checkBounds || bounds.inRange(centerX, centerY, (radius * 2))) && (lifeSpan > 0) && (radius > 0) && (opacity > 0);
+           }
+           return lifeSpan > 0;
+       }
+    }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean isFade() {
+        return fade;
+    }
+
+    public void setFade(boolean fade) {
+        this.fade = fade;
+    }
+
+    public float getOpacity() {
+        return opacity;
+    }
+
+    public void setOpacity(float opacity) {
+        this.opacity = opacity;
+    }
+
+    public boolean isShrink() {
+        return shrink;
+    }
+
+    public void setShrink(boolean shrink) {
+        this.shrink = shrink;
+    }
+
+    public float getTargetX() {
+        return targetX;
+    }
+
+    public void setTargetX(float targetX) {
+        this.targetX = targetX;
+    }
+
+    public float getTargetY() {
+        return targetY;
+    }
+
+    public void setTargetY(float targetY) {
+        this.targetY = targetY;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public void setCenterX(float centerX) {
+        this.centerX = centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+
+    public void setCenterY(float centerY) {
+        this.centerY = centerY;
+    }
+
+    public float getVelX() {
+        return velX;
+    }
+
+    public void setVelX(float velX) {
+        this.velX = velX;
+    }
+
+    public float getVelY() {
+        return velY;
+    }
+
+    public void setVelY(float velY) {
+        this.velY = velY;
+    }
+
+    public float getVarianceX() {
+        return varianceX;
+    }
+
+    public void setVarianceX(float varianceX) {
+        this.varianceX = varianceX;
+    }
+
+    public float getVarianceY() {
+        return varianceY;
+    }
+
+    public void setVarianceY(float varianceY) {
+        this.varianceY = varianceY;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public void setRadius(float radius) {
+        this.radius = radius;
+        this.actualRadius = radius;
+    }
+
+    public ColorUtility.SoulColor getColor() {
+        return color;
+    }
+
+    public void setColor(ColorUtility.SoulColor color) {
+        this.color = color;
+    }
+
+    public void setStrokeColor(ColorUtility.SoulColor color) {
+        this.strokeColor = color;
+    }
+
+    public void setInnerOutlineColor(ColorUtility.SoulColor innerOutlineColor) {
+        this.innerOutlineColor = innerOutlineColor;
+    }
+
+    public ColorUtility.SoulColor getStrokeColor() {
+        return strokeColor;
+    }
+
+    public ColorUtility.SoulColor getColorStart() {
+        return colorStart;
+    }
+
+    public void setColorStart(ColorUtility.SoulColor colorStart) {
+        this.colorStart = colorStart;
+    }
+
+    public ColorUtility.SoulColor getColorEnd() {
+        return colorEnd;
+    }
+
+    public void setColorEnd(ColorUtility.SoulColor colorEnd) {
+        this.colorEnd = colorEnd;
+    }
+
+    public float getDecay() {
+        return decay;
+    }
+
+    public void setDecay(float decay) {
+        this.decay = FixedStepAccumulator.STEP_SECONDS / decay;
+    }
+
+    public Bounds getBounds() {
+        return bounds;
+    }
+
+    public void setBounds(Bounds bounds) {
+        this.bounds = bounds;
+    }
+
+    public boolean isKilled() {
+        return killed;
+    }
+
+    public void setKilled(boolean killed) {
+        this.killed = killed;
+    }
+
+    public boolean isCheckBounds() {
+        return checkBounds;
+    }
+
+    public void setCheckBounds(boolean checkBounds) {
+        this.checkBounds = checkBounds;
+    }
+
+    public boolean isAlwaysAlive() {
+        return alwaysAlive;
+    }
+
+    public void setAlwaysAlive(boolean alwaysAlive) {
+        this.alwaysAlive = alwaysAlive;
+    }
+
+    public void setSpacing(float spacing) {
+        this.spacing = spacing;
+    }
+
+    public float getSpacing(){
+        return spacing;
+    }
+}
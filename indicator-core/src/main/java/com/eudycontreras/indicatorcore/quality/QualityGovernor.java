@@ -0,0 +1,223 @@
+package com.eudycontreras.indicatorcore.quality;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class QualityGovernor {
+
+    public static final int DEGRADE_RING_COUNT = 1;
+    public static final int DEGRADE_DECORATIONS = 1 << 1;
+    public static final int DEGRADE_ANTI_ALIAS = 1 << 2;
+    public static final int DEGRADE_UPDATE_RATE = 1 << 3;
+
+    public static final int[] DEFAULT_LADDER = {
+            0,
+            DEGRADE_RING_COUNT,
+            DEGRADE_RING_COUNT | DEGRADE_DECORATIONS,
+            DEGRADE_RING_COUNT | DEGRADE_DECORATIONS | DEGRADE_ANTI_ALIAS,
+            DEGRADE_RING_COUNT | DEGRADE_DECORATIONS | DEGRADE_ANTI_ALIAS | DEGRADE_UPDATE_RATE
+    };
+
+    public static final long DEFAULT_FRAME_BUDGET = 4000;
+    public static final int DEFAULT_SAMPLE_WINDOW = 30;
+    public static final int DEFAULT_OVERRUN_THRESHOLD = 8;
+    public static final int DEFAULT_RECOVERY_FRAMES = 120;
+    public static final int DEFAULT_RING_STRIDE = 2;
+    public static final long DEFAULT_DEGRADED_UPDATE_INTERVAL = 33;
+
+    @FunctionalInterface
+    public interface QualityListener {
+        void onQualityChanged(int previousLevel, int level, int degradations);
+    }
+
+    private int[] ladder = DEFAULT_LADDER.clone();
+
+    private long frameBudget = DEFAULT_FRAME_BUDGET;
+
+    private int sampleWindow = DEFAULT_SAMPLE_WINDOW;
+    private int overrunThreshold = DEFAULT_OVERRUN_THRESHOLD;
+    private int recoveryFrames = DEFAULT_RECOVERY_FRAMES;
+    private int ringStride = DEFAULT_RING_STRIDE;
+
+    private long degradedUpdateInterval = DEFAULT_DEGRADED_UPDATE_INTERVAL;
+
+    private int level;
+
+    private int sampledFrames;
+    private int overruns;
+    private int recoveredFrames;
+
+    private QualityListener listener;
+
+    /**
+     * Records the cost of one frame. Quality steps down one level once at least
+     * {@link #getOverrunThreshold()} of the last {@link #getSampleWindow()} frames went
+     * over the frame budget, and steps back up one level only after
+     * {@link #getRecoveryFrames()} consecutive frames stayed within it. The longer
+     * recovery period keeps the quality from bouncing between two levels.
+     *
+     * @param frameCost the time spent on the frame in microseconds
+     * @return true if the quality level changed
+     */
+    public boolean onFrame(long frameCost) {
+        boolean overrun = frameCost > frameBudget;
+
+        sampledFrames++;
+
+        if (overrun) {
+            overruns++;
+            recoveredFrames = 0;
+        } else {
+            recoveredFrames++;
+        }
+
+        if (overruns >= overrunThreshold && level < ladder.length - 1) {
+            return setLevel(level + 1);
+        }
+
+        if (recoveredFrames >= recoveryFrames && level > 0) {
+            return setLevel(level - 1);
+        }
+
+        if (sampledFrames >= sampleWindow) {
+            sampledFrames = 0;
+            overruns = 0;
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves to the given level of the degradation ladder and notifies the listener.
+     * The gathered frame samples are discarded.
+     *
+     * @return true if the level changed
+     */
+    public boolean setLevel(int level) {
+        level = Math.max(0, Math.min(level, ladder.length - 1));
+
+        resetSamples();
+
+        if (level == this.level)
+            return false;
+
+        int previousLevel = this.level;
+        this.level = level;
+
+        if (listener != null) {
+            listener.onQualityChanged(previousLevel, level, ladder[level]);
+        }
+        return true;
+    }
+
+    public void resetSamples() {
+        sampledFrames = 0;
+        overruns = 0;
+        recoveredFrames = 0;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getDegradations() {
+        return ladder[level];
+    }
+
+    public boolean isDegraded(int degradation) {
+        return (ladder[level] & degradation) != 0;
+    }
+
+    public int[] getLadder() {
+        return ladder.clone();
+    }
+
+    /**
+     * Sets the degradation ladder. Each entry holds the DEGRADE flags applied at
+     * that level, starting with the full quality level. The level is reset.
+     *
+     * @param ladder the flags of each level, ordered from best to worst quality
+     */
+    public void setLadder(int... ladder) {
+        if (ladder.length == 0)
+            throw new IllegalArgumentException("The degradation ladder needs at least one level");
+
+        this.ladder = ladder.clone();
+        setLevel(0);
+    }
+
+    public long getFrameBudget() {
+        return frameBudget;
+    }
+
+    /**
+     * Sets the amount of microseconds a frame may cost before it counts as an overrun.
+     */
+    public void setFrameBudget(long frameBudget) {
+        this.frameBudget = frameBudget;
+    }
+
+    public int getSampleWindow() {
+        return sampleWindow;
+    }
+
+    public void setSampleWindow(int sampleWindow) {
+        this.sampleWindow = Math.max(1, sampleWindow);
+    }
+
+    public int getOverrunThreshold() {
+        return overrunThreshold;
+    }
+
+    public void setOverrunThreshold(int overrunThreshold) {
+        this.overrunThreshold = Math.max(1, overrunThreshold);
+    }
+
+    public int getRecoveryFrames() {
+        return recoveryFrames;
+    }
+
+    public void setRecoveryFrames(int recoveryFrames) {
+        this.recoveryFrames = Math.max(1, recoveryFrames);
+    }
+
+    public int getRingStride() {
+        return ringStride;
+    }
+
+    /**
+     * Sets how many rings share a drawn ring while the ring count is degraded.
+     * A stride of two draws every second ring.
+     */
+    public void setRingStride(int ringStride) {
+        this.ringStride = Math.max(1, ringStride);
+    }
+
+    public long getDegradedUpdateInterval() {
+        return degradedUpdateInterval;
+    }
+
+    /**
+     * Sets the minimum amount of milliseconds between two ring updates while
+     * the update rate is degraded.
+     */
+    public void setDegradedUpdateInterval(long degradedUpdateInterval) {
+        this.degradedUpdateInterval = degradedUpdateInterval;
+    }
+
+    public QualityListener getQualityListener() {
+        return listener;
+    }
+
+    public void setQualityListener(QualityListener listener) {
+        this.listener = listener;
+    }
+}
@@ -0,0 +1,42 @@
+package com.eudycontreras.indicatorcore.render;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public interface IndicatorRenderer {
+
+    /**
+     * Saves the current clip so it can be restored with {@link #restoreToCount(int)}.
+     *
+     * @return the save count to pass to {@link #restoreToCount(int)}
+     */
+    int save();
+
+    void restoreToCount(int saveCount);
+
+    void clipOutCircle(float centerX, float centerY, float radius);
+
+    void clipOutRoundRect(float left, float top, float right, float bottom, float cornerRadius);
+
+    void fillCircle(float centerX, float centerY, float radius, int color);
+
+    void strokeCircle(float centerX, float centerY, float radius, float strokeWidth, int color);
+
+    void fillRoundRect(float left, float top, float right, float bottom, float cornerRadius, int color);
+
+    void strokeRoundRect(float left, float top, float right, float bottom, float cornerRadius, float strokeWidth, int color);
+
+    /**
+     * Fills the area of the outer round rect which lies outside of the inner round rect.
+     * Both rects share the same corner radius.
+     */
+    void fillRoundRectRing(float outerLeft, float outerTop, float outerRight, float outerBottom, float innerLeft, float innerTop, float innerRight, float innerBottom, float cornerRadius, int color);
+}
@@ -0,0 +1,325 @@
+package com.eudycontreras.indicatorcore.render;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class RasterRenderer implements IndicatorRenderer {
+
+    private static final int SHAPE_CIRCLE = 0;
+    private static final int SHAPE_ROUND_RECT = 1;
+
+    private static final int INITIAL_DEPTH = 4;
+
+    private final int[] pixels;
+
+    private final int width;
+    private final int height;
+
+    private int clipCount;
+
+    private int[] clipShapes = new int[INITIAL_DEPTH];
+    private float[] clipGeometry = new float[INITIAL_DEPTH * 5];
+
+    private int saveCount = 1;
+
+    private int[] savedClipCounts = new int[INITIAL_DEPTH];
+
+    public RasterRenderer(int width, int height) {
+        this(new int[width * height], width, height);
+    }
+
+    /**
+     * Creates a renderer which draws into the given buffer of non premultiplied
+     * ARGB pixels, laid out row by row the way Bitmap.getPixels returns them.
+     *
+     * @param pixels the buffer holding at least width times height pixels
+     * @param width the width of the buffer in pixels
+     * @param height the height of the buffer in pixels
+     */
+    public RasterRenderer(int[] pixels, int width, int height) {
+        if (pixels.length < width * height)
+            throw new IllegalArgumentException("The pixel buffer is too small for a " + width + "x" + height + " raster");
+
+        this.pixels = pixels;
+        this.width = width;
+        this.height = height;
+    }
+
+    public void clear(int color) {
+        for (int i = 0, length = width * height; i < length; i++) {
+            pixels[i] = color;
+        }
+    }
+
+    @Override
+    public int save() {
+        if (saveCount > savedClipCounts.length) {
+            savedClipCounts = grow(savedClipCounts, savedClipCounts.length * 2);
+        }
+        savedClipCounts[saveCount - 1] = clipCount;
+        return saveCount++;
+    }
+
+    /**
+     * Pops saved clips until the given save count is reached. Like Canvas, a count
+     * below one underflows and a count above the current save count does nothing.
+     */
+    @Override
+    public void restoreToCount(int saveCount) {
+        if (saveCount < 1)
+            throw new IllegalArgumentException("Underflow in restoreToCount");
+
+        while (this.saveCount > saveCount) {
+            this.saveCount--;
+            clipCount = savedClipCounts[this.saveCount - 1];
+        }
+    }
+
+    @Override
+    public void clipOutCircle(float centerX, float centerY, float radius) {
+        addClip(SHAPE_CIRCLE, centerX, centerY, radius, radius, radius);
+    }
+
+    @Override
+    public void clipOutRoundRect(float left, float top, float right, float bottom, float cornerRadius) {
+        addClip(SHAPE_ROUND_RECT, (left + right) / 2f, (top + bottom) / 2f, (right - left) / 2f, (bottom - top) / 2f, cornerRadius);
+    }
+
+    @Override
+    public void fillCircle(float centerX, float centerY, float radius, int color) {
+        float extent = radius + 1f;
+
+        for (int y = top(centerY - extent), bottom = bottom(centerY + extent); y < bottom; y++) {
+            for (int x = left(centerX - extent), right = right(centerX + extent); x < right; x++) {
+                float distance = circleDistance(x + 0.5f, y + 0.5f, centerX, centerY, radius);
+
+                blend(x, y, color, coverage(distance));
+            }
+        }
+    }
+
+    @Override
+    public void strokeCircle(float centerX, float centerY, float radius, float strokeWidth, int color) {
+        float halfStroke = strokeWidth / 2f;
+        float extent = radius + halfStroke + 1f;
+
+        for (int y = top(centerY - extent), bottom = bottom(centerY + extent); y < bottom; y++) {
+            for (int x = left(centerX - extent), right = right(centerX + extent); x < right; x++) {
+                float distance = circleDistance(x + 0.5f, y + 0.5f, centerX, centerY, radius);
+
+                blend(x, y, color, coverage(Math.abs(distance) - halfStroke));
+            }
+        }
+    }
+
+    @Override
+    public void fillRoundRect(float left, float top, float right, float bottom, float cornerRadius, int color) {
+        float centerX = (left + right) / 2f;
+        float centerY = (top + bottom) / 2f;
+        float halfWidth = (right - left) / 2f;
+        float halfHeight = (bottom - top) / 2f;
+
+        for (int y = top(top - 1f), endY = bottom(bottom + 1f); y < endY; y++) {
+            for (int x = left(left - 1f), endX = right(right + 1f); x < endX; x++) {
+                float distance = roundRectDistance(x + 0.5f, y + 0.5f, centerX, centerY, halfWidth, halfHeight, cornerRadius);
+
+                blend(x, y, color, coverage(distance));
+            }
+        }
+    }
+
+    @Override
+    public void strokeRoundRect(float left, float top, float right, float bottom, float cornerRadius, float strokeWidth, int color) {
+        float centerX = (left + right) / 2f;
+        float centerY = (top + bottom) / 2f;
+        float halfWidth = (right - left) / 2f;
+        float halfHeight = (bottom - top) / 2f;
+        float extent = (strokeWidth / 2f) + 1f;
+
+        for (int y = top(top - extent), endY = bottom(bottom + extent); y < endY; y++) {
+            for (int x = left(left - extent), endX = right(right + extent); x < endX; x++) {
+                float distance = roundRectDistance(x + 0.5f, y + 0.5f, centerX, centerY, halfWidth, halfHeight, cornerRadius);
+
+                blend(x, y, color, coverage(Math.abs(distance) - (strokeWidth / 2f)));
+            }
+        }
+    }
+
+    @Override
+    public void fillRoundRectRing(float outerLeft, float outerTop, float outerRight, float outerBottom, float innerLeft, float innerTop, float innerRight, float innerBottom, float cornerRadius, int color) {
+        float outerX = (outerLeft + outerRight) / 2f;
+        float outerY = (outerTop + outerBottom) / 2f;
+        float outerHalfWidth = (outerRight - outerLeft) / 2f;
+        float outerHalfHeight = (outerBottom - outerTop) / 2f;
+
+        float innerX = (innerLeft + innerRight) / 2f;
+        float innerY = (innerTop + innerBottom) / 2f;
+        float innerHalfWidth = (innerRight - innerLeft) / 2f;
+        float innerHalfHeight = (innerBottom - innerTop) / 2f;
+
+        for (int y = top(outerTop - 1f), endY = bottom(outerBottom + 1f); y < endY; y++) {
+            for (int x = left(outerLeft - 1f), endX = right(outerRight + 1f); x < endX; x++) {
+                float outer = roundRectDistance(x + 0.5f, y + 0.5f, outerX, outerY, outerHalfWidth, outerHalfHeight, cornerRadius);
+                float inner = roundRectDistance(x + 0.5f, y + 0.5f, innerX, innerY, innerHalfWidth, innerHalfHeight, cornerRadius);
+
+                blend(x, y, color, coverage(Math.max(outer, -inner)));
+            }
+        }
+    }
+
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    private void addClip(int shape, float centerX, float centerY, float halfWidth, float halfHeight, float cornerRadius) {
+        if (clipCount == clipShapes.length) {
+            clipShapes = grow(clipShapes, clipCount * 2);
+            clipGeometry = grow(clipGeometry, clipCount * 2 * 5);
+        }
+
+        int offset = clipCount * 5;
+
+        clipShapes[clipCount] = shape;
+        clipGeometry[offset] = centerX;
+        clipGeometry[offset + 1] = centerY;
+        clipGeometry[offset + 2] = halfWidth;
+        clipGeometry[offset + 3] = halfHeight;
+        clipGeometry[offset + 4] = cornerRadius;
+
+        clipCount++;
+    }
+
+    /**
+     * Blends the given color over the pixel at the given location, scaled by the
+     * coverage of the shape being drawn and by the coverage left by the clips.
+     */
+    private void blend(int x, int y, int color, float coverage) {
+        if (coverage <= 0f)
+            return;
+
+        for (int i = 0; i < clipCount && coverage > 0f; i++) {
+            int offset = i * 5;
+
+            float distance;
+
+            if (clipShapes[i] == SHAPE_CIRCLE) {
+                distance = circleDistance(x + 0.5f, y + 0.5f, clipGeometry[offset], clipGeometry[offset + 1], clipGeometry[offset + 2]);
+            } else {
+                distance = roundRectDistance(x + 0.5f, y + 0.5f, clipGeometry[offset], clipGeometry[offset + 1], clipGeometry[offset + 2], clipGeometry[offset + 3], clipGeometry[offset + 4]);
+            }
+
+            coverage *= coverage(-distance);
+        }
+
+        float sourceAlpha = ((color >>> 24) / 255f) * coverage;
+
+        if (sourceAlpha <= 0f)
+            return;
+
+        int index = y * width + x;
+        int destination = pixels[index];
+
+        float destinationAlpha = (destination >>> 24) / 255f;
+        float remaining = destinationAlpha * (1f - sourceAlpha);
+        float alpha = sourceAlpha + remaining;
+
+        int red = mix((color >> 16) & 0xFF, (destination >> 16) & 0xFF, sourceAlpha, remaining, alpha);
+        int green = mix((color >> 8) & 0xFF, (destination >> 8) & 0xFF, sourceAlpha, remaining, alpha);
+        int blue = mix(color & 0xFF, destination & 0xFF, sourceAlpha, remaining, alpha);
+
+        pixels[index] = (Math.round(alpha * 255f) << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    private static int mix(int source, int destination, float sourceAlpha, float remaining, float alpha) {
+        return Math.round(((source * sourceAlpha) + (destination * remaining)) / alpha);
+    }
+
+    /**
+     * Converts a signed distance, negative inside the shape, into the share of a
+     * pixel centered at that distance which the shape covers.
+     */
+    private static float coverage(float distance) {
+        float coverage = 0.5f - distance;
+
+        if (coverage <= 0f)
+            return 0f;
+        if (coverage >= 1f)
+            return 1f;
+
+        return coverage;
+    }
+
+    private static float circleDistance(float x, float y, float centerX, float centerY, float radius) {
+        float distanceX = x - centerX;
+        float distanceY = y - centerY;
+
+        return (float) Math.sqrt(distanceX * distanceX + distanceY * distanceY) - radius;
+    }
+
+    private static float roundRectDistance(float x, float y, float centerX, float centerY, float halfWidth, float halfHeight, float cornerRadius) {
+        float radius = Math.max(0f, Math.min(cornerRadius, Math.min(halfWidth, halfHeight)));
+
+        float edgeX = Math.abs(x - centerX) - (halfWidth - radius);
+        float edgeY = Math.abs(y - centerY) - (halfHeight - radius);
+
+        float outsideX = Math.max(edgeX, 0f);
+        float outsideY = Math.max(edgeY, 0f);
+
+        float outside = (float) Math.sqrt(outsideX * outsideX + outsideY * outsideY);
+        float inside = Math.min(Math.max(edgeX, edgeY), 0f);
+
+        return outside + inside - radius;
+    }
+
+    private int left(float left) {
+        return Math.max(0, (int) Math.floor(left));
+    }
+
+    private int top(float top) {
+        return Math.max(0, (int) Math.floor(top));
+    }
+
+    private int right(float right) {
+        return Math.min(width, (int) Math.ceil(right));
+    }
+
+    private int bottom(float bottom) {
+        return Math.min(height, (int) Math.ceil(bottom));
+    }
+
+    private static int[] grow(int[] array, int length) {
+        int[] grown = new int[length];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    private static float[] grow(float[] array, int length) {
+        float[] grown = new float[length];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
@@ -0,0 +1,163 @@
+package com.eudycontreras.indicatorcore.render;
+
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.geometry.RingState;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public final class RingPainter {
+
+    private RingPainter() { }
+
+    /**
+     * Clips the area covered by the target out of the renderer when the given specification
+     * describes indicator type rings. Meant to be applied once, inside a single save and
+     * restore, around every ring that shares the specification. Nothing is clipped when
+     * the specification uses analytic clipping.
+     *
+     * @return true if a clip was applied
+     */
+    public static boolean clipOut(IndicatorRenderer renderer, RingSpec spec) {
+        if (spec == null || spec.getType() != RingSpec.TYPE_INDICATOR || spec.isUseAnalyticClip())
+            return false;
+
+        applyClip(renderer, spec);
+        return true;
+    }
+
+    private static void applyClip(IndicatorRenderer renderer, RingSpec spec) {
+        if (spec.getShapeType() == RingSpec.SHAPE_CIRCLE) {
+            renderer.clipOutCircle(spec.getCenterX(), spec.getCenterY(), spec.getClipRadius());
+        } else {
+            float halfWidth = spec.getMinWidth() / 2f;
+            float halfHeight = spec.getMinHeight() / 2f;
+
+            renderer.clipOutRoundRect(spec.getX() - halfWidth, spec.getY() - halfHeight, spec.getX() + halfWidth, spec.getY() + halfHeight, spec.getCornerRadius());
+        }
+    }
+
+    /**
+     * Draws a ring with the given specification and animated state, including its
+     * border stroke and inner outline.
+     */
+    public static void draw(IndicatorRenderer renderer, RingSpec spec, RingState ring) {
+        switch (spec.getType()) {
+            case RingSpec.TYPE_FILLED:
+                drawFilled(renderer, spec, ring);
+                break;
+            case RingSpec.TYPE_INDICATOR:
+                if (spec.isUseAnalyticClip()) {
+                    drawAnalytic(renderer, spec, ring);
+                    return;
+                }
+                drawFilled(renderer, spec, ring);
+                break;
+            case RingSpec.TYPE_OUTLINE:
+                drawOutline(renderer, spec, ring);
+                break;
+        }
+
+        drawInnerOutline(renderer, spec);
+    }
+
+    public static void drawInnerOutline(IndicatorRenderer renderer, RingSpec spec) {
+        if (spec.isShowInnerOutline()) {
+            renderer.strokeCircle(spec.getCenterX(), spec.getCenterY(), spec.getMinRadius(), spec.getInnerOutlineWidth(), spec.getInnerOutlineColor());
+        }
+    }
+
+    private static int applyOpacity(int color, float opacity) {
+        return (color & 0x00FFFFFF) | (Math.round(255f * opacity) << 24);
+    }
+
+    private static void drawFilled(IndicatorRenderer renderer, RingSpec spec, RingState ring) {
+        int color = applyOpacity(ring.getColor(), ring.getOpacity());
+
+        if (spec.getShapeType() == RingSpec.SHAPE_CIRCLE) {
+            renderer.fillCircle(spec.getCenterX(), spec.getCenterY(), ring.getRadius(), color);
+
+            if (spec.isShowBorderStroke()) {
+                renderer.strokeCircle(spec.getCenterX(), spec.getCenterY(), ring.getRadius(), spec.getStrokeWidth(), applyOpacity(spec.getStrokeColor(), ring.getOpacity()));
+            }
+        } else {
+            renderer.fillRoundRect(ring.getLeft(), ring.getTop(), ring.getLeft() + ring.getWidth(), ring.getTop() + ring.getHeight(), spec.getCornerRadius(), color);
+        }
+    }
+
+    private static void drawOutline(IndicatorRenderer renderer, RingSpec spec, RingState ring) {
+        int color = applyOpacity(ring.getColor(), ring.getOpacity());
+
+        if (spec.getShapeType() == RingSpec.SHAPE_CIRCLE) {
+            renderer.strokeCircle(spec.getCenterX(), spec.getCenterY(), ring.getRadius(), spec.getStrokeWidth(), color);
+        } else {
+            renderer.strokeRoundRect(ring.getLeft(), ring.getTop(), ring.getLeft() + ring.getWidth(), ring.getTop() + ring.getHeight(), spec.getCornerRadius(), spec.getStrokeWidth(), color);
+        }
+    }
+
+    /**
+     * Draws an indicator type ring without clipping. A circular ring outside the clip
+     * circle is the annulus between the clip radius and the ring radius, which is drawn as
+     * a stroke centered between the two. Rectangular rings are filled as the area between
+     * the outer and the clip round rect. Rectangles which do not fully contain the clip
+     * rect, or which also show an inner outline, fall back to a clip of their own.
+     */
+    private static void drawAnalytic(IndicatorRenderer renderer, RingSpec spec, RingState ring) {
+        float centerX = spec.getCenterX();
+        float centerY = spec.getCenterY();
+
+        if (spec.getShapeType() == RingSpec.SHAPE_CIRCLE) {
+            float clipRadius = spec.getClipRadius();
+            float radius = ring.getRadius();
+
+            drawAnnulus(renderer, centerX, centerY, clipRadius, radius, applyOpacity(ring.getColor(), ring.getOpacity()));
+
+            if (spec.isShowBorderStroke()) {
+                float halfStroke = spec.getStrokeWidth() / 2f;
+
+                drawAnnulus(renderer, centerX, centerY, Math.max(clipRadius, radius - halfStroke), radius + halfStroke, applyOpacity(spec.getStrokeColor(), ring.getOpacity()));
+            }
+
+            if (spec.isShowInnerOutline()) {
+                float halfOutline = spec.getInnerOutlineWidth() / 2f;
+
+                drawAnnulus(renderer, centerX, centerY, Math.max(clipRadius, spec.getMinRadius() - halfOutline), spec.getMinRadius() + halfOutline, spec.getInnerOutlineColor());
+            }
+            return;
+        }
+
+        if (ring.getWidth() < spec.getMinWidth() || ring.getHeight() < spec.getMinHeight() || spec.isShowInnerOutline()) {
+            int count = renderer.save();
+            applyClip(renderer, spec);
+            drawFilled(renderer, spec, ring);
+            drawInnerOutline(renderer, spec);
+            renderer.restoreToCount(count);
+            return;
+        }
+
+        float halfWidth = spec.getMinWidth() / 2f;
+        float halfHeight = spec.getMinHeight() / 2f;
+
+        renderer.fillRoundRectRing(
+                ring.getLeft(), ring.getTop(), ring.getLeft() + ring.getWidth(), ring.getTop() + ring.getHeight(),
+                spec.getX() - halfWidth, spec.getY() - halfHeight, spec.getX() + halfWidth, spec.getY() + halfHeight,
+                spec.getCornerRadius(), applyOpacity(ring.getColor(), ring.getOpacity()));
+    }
+
+    private static void drawAnnulus(IndicatorRenderer renderer, float centerX, float centerY, float innerRadius, float outerRadius, int color) {
+        if (outerRadius <= innerRadius)
+            return;
+
+        renderer.strokeCircle(centerX, centerY, (innerRadius + outerRadius) / 2f, outerRadius - innerRadius, color);
+    }
+}
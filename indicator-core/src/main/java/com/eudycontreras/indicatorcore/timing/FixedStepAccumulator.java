@@ -0,0 +1,87 @@
+package com.eudycontreras.indicatorcore.timing;
+
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public class FixedStepAccumulator {
+
+    public static final long STEP_NANOS = 1000000000L / 60L;
+    public static final float STEP_SECONDS = STEP_NANOS / 1000000000f;
+
+    public static final int DEFAULT_MAX_STEPS = 4;
+
+    private long lastFrameTime = -1;
+    private long accumulated;
+
+    private int maxSteps;
+
+    public FixedStepAccumulator() {
+        this(DEFAULT_MAX_STEPS);
+    }
+
+    public FixedStepAccumulator(int maxSteps) {
+        setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Accumulates the time elapsed since the previous frame and returns how many fixed
+     * steps should be simulated for the given frame. A simulation stepped this way moves
+     * at the same speed on every refresh rate. When a stalled frame would require more
+     * than the maximum amount of steps the remaining backlog is dropped, so the simulation
+     * slows down for that frame rather than falling further and further behind.
+     *
+     * @param frameTimeNanos the vsync timestamp of the frame in nanoseconds
+     * @return the amount of fixed steps to simulate, zero on the first frame
+     */
+    public int advance(long frameTimeNanos) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = frameTimeNanos;
+            return 0;
+        }
+
+        accumulated += Math.max(0, frameTimeNanos - lastFrameTime);
+        lastFrameTime = frameTimeNanos;
+
+        long steps = accumulated / STEP_NANOS;
+
+        if (steps > maxSteps) {
+            accumulated %= STEP_NANOS;
+            return maxSteps;
+        }
+
+        accumulated -= steps * STEP_NANOS;
+        return (int) steps;
+    }
+
+    /**
+     * Returns how far the leftover time reaches into the next step, between 0 and 1.
+     * Can be used to interpolate drawn positions between the last two steps.
+     */
+    public float getInterpolation() {
+        return (float) accumulated / STEP_NANOS;
+    }
+
+    public void reset() {
+        lastFrameTime = -1;
+        accumulated = 0;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    public void setMaxSteps(int maxSteps) {
+        this.maxSteps = Math.max(1, maxSteps);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eudycontreras.indicatorcore.timing;
+
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP)
+public final class RingTiming {
+
+    public static final int INFINITE = -1;
+
+    public static final int REPEAT_MODE_RESTART = 1;
+    public static final int REPEAT_MODE_REVERSE = 2;
+
+    private RingTiming() { }
+
+    /**
+     * Determines whether an animation with the given duration and repeat count
+     * would have ended after playing for the given amount of time.
+     */
+    public static boolean isFinished(long playTime, long duration, int repeatCount) {
+        return duration <= 0 || (repeatCount != INFINITE && (playTime / duration) > repeatCount);
+    }
+
+    /**
+     * Computes the fraction a ValueAnimator with the given duration, repeat count
+     * and repeat mode would report after playing for the given amount of time.
+     */
+    public static float getFraction(long playTime, long duration, int repeatCount, int repeatMode) {
+        if (playTime < 0)
+            return 0f;
+
+        long iteration;
+        float fraction;
+
+        if (isFinished(playTime, duration, repeatCount)) {
+            iteration = duration > 0 ? repeatCount : 0;
+            fraction = 1f;
+        } else {
+            iteration = playTime / duration;
+            fraction = (float) (playTime % duration) / (float) duration;
+        }
+
+        if (repeatMode == REPEAT_MODE_REVERSE && (iteration % 2) != 0) {
+            fraction = 1f - fraction;
+        }
+
+        return fraction;
+    }
+}
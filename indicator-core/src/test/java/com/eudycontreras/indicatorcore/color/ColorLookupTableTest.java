@@ -0,0 +1,105 @@
+package com.eudycontreras.indicatorcore.color;
+
+import org.junit.Test;
+
+import static com.eudycontreras.indicatorcore.color.ColorLookupTable.INTERPOLATION_LINEAR;
+import static com.eudycontreras.indicatorcore.color.ColorLookupTable.INTERPOLATION_PERCEPTUAL;
+import static com.eudycontreras.indicatorcore.color.ColorLookupTable.INTERPOLATION_RGB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class ColorLookupTableTest {
+
+    private static final int BLACK = 0xFF000000;
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+
+    @Test
+    public void endpointsMatchTheBakedColors() {
+        int[] modes = {INTERPOLATION_RGB, INTERPOLATION_LINEAR, INTERPOLATION_PERCEPTUAL};
+
+        for (int mode : modes) {
+            ColorLookupTable table = new ColorLookupTable();
+            table.bake(RED, BLUE, mode);
+
+            assertColor("start in mode " + mode, RED, table.getColor(0f), 1);
+            assertColor("end in mode " + mode, BLUE, table.getColor(1f), 1);
+        }
+    }
+
+    @Test
+    public void amountsOutsideTheRangeAreClamped() {
+        ColorLookupTable table = new ColorLookupTable();
+        table.bake(RED, BLUE, INTERPOLATION_RGB);
+
+        assertEquals(RED, table.getColor(-1f));
+        assertEquals(BLUE, table.getColor(2f));
+    }
+
+    @Test
+    public void rgbMidPointMatchesColorUtility() {
+        ColorLookupTable table = new ColorLookupTable(3);
+        table.bake(BLACK, WHITE, INTERPOLATION_RGB);
+
+        assertEquals(ColorUtility.interpolateColor(BLACK, WHITE, 0.5f), table.getColor(0.5f));
+        assertEquals(0xFF7F7F7F, table.getColor(0.5f));
+    }
+
+    @Test
+    public void linearMidPointIsBrighterThanRgb() {
+        ColorLookupTable table = new ColorLookupTable(3);
+        table.bake(BLACK, WHITE, INTERPOLATION_LINEAR);
+
+        assertColor("linear mid point", 0xFFBCBCBC, table.getColor(0.5f), 1);
+    }
+
+    @Test
+    public void perceptualMidPointIsDarkerThanRgb() {
+        ColorLookupTable table = new ColorLookupTable(3);
+        table.bake(BLACK, WHITE, INTERPOLATION_PERCEPTUAL);
+
+        assertColor("perceptual mid point", 0xFF636363, table.getColor(0.5f), 1);
+    }
+
+    @Test
+    public void startAlphaIsKept() {
+        ColorLookupTable table = new ColorLookupTable(3);
+        table.bake(0x80FF0000, 0xFF0000FF, INTERPOLATION_LINEAR);
+
+        assertEquals(0x80, ColorUtility.alpha(table.getColor(0.5f)));
+        assertEquals(0x80, ColorUtility.alpha(table.getColor(1f)));
+    }
+
+    @Test
+    public void matchesReportsTheBakedGradient() {
+        ColorLookupTable table = new ColorLookupTable(16);
+        table.bake(RED, BLUE, INTERPOLATION_PERCEPTUAL);
+
+        assertTrue(table.matches(RED, BLUE, INTERPOLATION_PERCEPTUAL, 16));
+        assertTrue(!table.matches(RED, BLUE, INTERPOLATION_RGB, 16));
+        assertTrue(!table.matches(RED, BLUE, INTERPOLATION_PERCEPTUAL, 32));
+    }
+
+    private static void assertColor(String message, int expected, int actual, int tolerance) {
+        int[] shifts = {24, 16, 8, 0};
+
+        for (int shift : shifts) {
+            int expectedChannel = (expected >> shift) & 0xFF;
+            int actualChannel = (actual >> shift) & 0xFF;
+
+            assertTrue(message + ": expected " + Integer.toHexString(expected) + " but was " + Integer.toHexString(actual), Math.abs(expectedChannel - actualChannel) <= tolerance);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.eudycontreras.indicatorcore.geometry;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.color.ColorUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class RingStateTest {
+
+    private static final float DELTA = 0.0001f;
+
+    private static final float[] TIMES = {0f, 0.1f, 0.25f, 0.5f, 0.75f, 0.9f, 1f};
+
+    private TestRingSpec spec;
+    private RingState ring;
+
+    @Before
+    public void setUp() {
+        spec = new TestRingSpec();
+        ring = new RingState();
+    }
+
+    @Test
+    public void circleRadiusMatchesBaseline() {
+        for (float time : TIMES) {
+            ring.update(spec, time);
+
+            assertEquals(spec.minRadius + ((spec.maxRadius - spec.minRadius) * time), ring.getRadius(), DELTA);
+        }
+    }
+
+    @Test
+    public void rectangleMatchesBaseline() {
+        spec.shapeType = RingSpec.SHAPE_RECTANGLE;
+
+        for (float time : TIMES) {
+            ring.update(spec, time);
+
+            float width = spec.minWidth + ((spec.maxWidth - spec.minWidth) * time);
+            float height = spec.minHeight + ((spec.maxHeight - spec.minHeight) * time);
+
+            assertEquals(width, ring.getWidth(), DELTA);
+            assertEquals(height, ring.getHeight(), DELTA);
+            assertEquals(spec.x - (width / 2), ring.getLeft(), DELTA);
+            assertEquals(spec.y - (height / 2), ring.getTop(), DELTA);
+        }
+    }
+
+    @Test
+    public void opacityMatchesBaseline() {
+        float[][] ranges = {{0f, 1f}, {0.2f, 0.8f}, {0.5f, 0.5f}, {0f, 0.6f}};
+
+        for (float[] range : ranges) {
+            spec.minOpacity = range[0];
+            spec.maxOpacity = range[1];
+
+            for (float time : TIMES) {
+                ring.update(spec, time);
+
+                float opacity = range[0] + ((range[1] - range[0]) * (range[1] - range[0] - time));
+                opacity = Math.max(0f, Math.min(1f, opacity));
+
+                assertEquals(opacity, ring.getOpacity(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void colorFollowsInterpolationSettings() {
+        ring.update(spec, 0.5f);
+        assertEquals(spec.color, ring.getColor());
+
+        spec.useColorInterpolation = true;
+        ring.update(spec, 0.5f);
+        assertEquals(ColorUtility.interpolateColor(spec.colorStart, spec.colorEnd, 0.5f), ring.getColor());
+
+        spec.colorTable = new ColorLookupTable(3);
+        spec.colorTable.bake(spec.colorStart, spec.colorEnd, ColorLookupTable.INTERPOLATION_RGB);
+        ring.update(spec, 0.5f);
+        assertEquals(spec.colorTable.getColor(0.5f), ring.getColor());
+    }
+
+    @Test
+    public void rewindEmptiesTheRing() {
+        ring.update(spec, 0.5f);
+        ring.rewind();
+
+        assertTrue(ring.isEmpty());
+    }
+}
@@ -0,0 +1,186 @@
+package com.eudycontreras.indicatorcore.geometry;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class TestRingSpec implements RingSpec {
+
+    public int type = TYPE_FILLED;
+    public int shapeType = SHAPE_CIRCLE;
+    public int color = 0xFFFFFFFF;
+    public int colorStart = 0xFF2196F3;
+    public int colorEnd = 0xFFE91E63;
+    public int strokeColor = 0xFF000000;
+    public int innerOutlineColor = 0xFF000000;
+    public boolean showBorderStroke = false;
+    public boolean showInnerOutline = false;
+    public boolean useAnalyticClip = false;
+    public boolean useColorInterpolation = false;
+    public ColorLookupTable colorTable = null;
+    public float x = 50f;
+    public float y = 50f;
+    public float centerX = 50f;
+    public float centerY = 50f;
+    public float minWidth = 10f;
+    public float minHeight = 6f;
+    public float maxWidth = 80f;
+    public float maxHeight = 40f;
+    public float minRadius = 5f;
+    public float maxRadius = 45f;
+    public float minOpacity = 0f;
+    public float maxOpacity = 1f;
+    public float clipRadius = 0f;
+    public float cornerRadius = 0f;
+    public float strokeWidth = 2f;
+    public float innerOutlineWidth = 1f;
+
+    @Override
+    public int getType() {
+        return type;
+    }
+
+    @Override
+    public int getShapeType() {
+        return shapeType;
+    }
+
+    @Override
+    public int getColor() {
+        return color;
+    }
+
+    @Override
+    public int getColorStart() {
+        return colorStart;
+    }
+
+    @Override
+    public int getColorEnd() {
+        return colorEnd;
+    }
+
+    @Override
+    public int getStrokeColor() {
+        return strokeColor;
+    }
+
+    @Override
+    public int getInnerOutlineColor() {
+        return innerOutlineColor;
+    }
+
+    @Override
+    public boolean isShowBorderStroke() {
+        return showBorderStroke;
+    }
+
+    @Override
+    public boolean isShowInnerOutline() {
+        return showInnerOutline;
+    }
+
+    @Override
+    public boolean isUseAnalyticClip() {
+        return useAnalyticClip;
+    }
+
+    @Override
+    public boolean isUseColorInterpolation() {
+        return useColorInterpolation;
+    }
+
+    @Override
+    public ColorLookupTable getColorTable() {
+        return colorTable;
+    }
+
+    @Override
+    public float getX() {
+        return x;
+    }
+
+    @Override
+    public float getY() {
+        return y;
+    }
+
+    @Override
+    public float getCenterX() {
+        return centerX;
+    }
+
+    @Override
+    public float getCenterY() {
+        return centerY;
+    }
+
+    @Override
+    public float getMinWidth() {
+        return minWidth;
+    }
+
+    @Override
+    public float getMinHeight() {
+        return minHeight;
+    }
+
+    @Override
+    public float getMaxWidth() {
+        return maxWidth;
+    }
+
+    @Override
+    public float getMaxHeight() {
+        return maxHeight;
+    }
+
+    @Override
+    public float getMinRadius() {
+        return minRadius;
+    }
+
+    @Override
+    public float getMaxRadius() {
+        return maxRadius;
+    }
+
+    @Override
+    public float getMinOpacity() {
+        return minOpacity;
+    }
+
+    @Override
+    public float getMaxOpacity() {
+        return maxOpacity;
+    }
+
+    @Override
+    public float getClipRadius() {
+        return clipRadius;
+    }
+
+    @Override
+    public float getCornerRadius() {
+        return cornerRadius;
+    }
+
+    @Override
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    @Override
+    public float getInnerOutlineWidth() {
+        return innerOutlineWidth;
+    }
+}
@@ -0,0 +1,236 @@
+package com.eudycontreras.indicatorcore.particles;
+
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.timing.FixedStepAccumulator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class ParticleSimulationTest {
+
+    private static final long SEED = 20180331L;
+
+    private static final int PARTICLES = 200;
+    private static final int STEPS = 120;
+
+    private static final float DELTA = 0.0001f;
+
+    @Test
+    public void fixedStepsMatchParticleState() {
+        ParticleSimulation simulation = new ParticleSimulation(8);
+        List<ParticleState> particles = new ArrayList<>();
+
+        populate(simulation, particles, null, new Random(SEED));
+
+        for (int step = 0; step < STEPS; step++) {
+            simulation.update();
+
+            for (ParticleState particle : particles) {
+                particle.update();
+            }
+            removeDead(particles);
+
+            assertSameParticles(particles, simulation);
+        }
+
+        assertTrue("some particles should have died", simulation.getCount() < PARTICLES);
+        assertTrue("some particles should be alive", simulation.getCount() > 0);
+    }
+
+    @Test
+    public void timedStepsMatchParticleState() {
+        ParticleSimulation simulation = new ParticleSimulation(8);
+        List<ParticleState> particles = new ArrayList<>();
+
+        populate(simulation, particles, null, new Random(SEED));
+
+        for (int step = 0; step < STEPS; step++) {
+            float time = (step + 1) / (float) STEPS;
+
+            simulation.update(1000f, time);
+
+            for (ParticleState particle : particles) {
+                particle.update(1000f, time);
+            }
+            removeDead(particles);
+
+            assertSameParticles(particles, simulation);
+        }
+    }
+
+    @Test
+    public void boundedStepsMatchParticleState() {
+        ParticleSimulation simulation = new ParticleSimulation(8);
+        List<ParticleState> particles = new ArrayList<>();
+
+        populate(simulation, particles, new Bounds(0, 0, 100, 100), new Random(SEED + 1));
+
+        for (int step = 0; step < STEPS; step++) {
+            float time = (step + 1) / (float) STEPS;
+
+            simulation.update(1000f, time);
+
+            for (ParticleState particle : particles) {
+                particle.update(1000f, time);
+            }
+            removeDead(particles);
+
+            assertSameParticles(particles, simulation);
+        }
+    }
+
+    @Test
+    public void frameTimestampsMatchParticleState() {
+        ParticleSimulation simulation = new ParticleSimulation(8);
+        List<ParticleState> particles = new ArrayList<>();
+        Map<ParticleState, FixedStepAccumulator> steppers = new HashMap<>();
+        Random random = new Random(SEED + 2);
+
+        populate(simulation, particles, null, random);
+
+        for (ParticleState particle : particles) {
+            steppers.put(particle, new FixedStepAccumulator());
+        }
+
+        long frameTime = 0;
+
+        for (int frame = 0; frame < STEPS; frame++) {
+            frameTime += 4000000L + random.nextInt(80000000);
+
+            simulation.update(frameTime);
+
+            for (ParticleState particle : particles) {
+                particle.update(steppers.get(particle), frameTime);
+            }
+            removeDead(particles);
+
+            assertSameParticles(particles, simulation);
+        }
+    }
+
+    @Test
+    public void deathInTheMiddleKeepsTheOtherParticles() {
+        ParticleSimulation simulation = new ParticleSimulation(8);
+        List<ParticleState> particles = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            float lifeTime = i == 2 ? 0.05f : 10f;
+            int color = 0xFF000000 | i;
+
+            ParticleState particle = new ParticleState(lifeTime, i * 10f, i * 5f, 1f, -1f, 0.25f, 0.5f, 4f, color, null);
+            particle.setRadius(4f);
+            particle.setKilled(true);
+            particles.add(particle);
+
+            int index = simulation.add(lifeTime, i * 10f, i * 5f, 1f, -1f, 0.25f, 0.5f, 4f, color);
+            simulation.setFlag(index, ParticleSimulation.FLAG_KILLED, true);
+        }
+
+        for (int step = 0; step < 10; step++) {
+            simulation.update();
+
+            for (ParticleState particle : particles) {
+                particle.update();
+            }
+            removeDead(particles);
+
+            assertSameParticles(particles, simulation);
+        }
+
+        assertEquals(4, simulation.getCount());
+        assertEquals(0xFF000004, simulation.getColor(2));
+    }
+
+    /**
+     * Adds the same randomly generated particles to the simulation and to the list. Every
+     * particle is given a unique color so it can be found again after the simulation has
+     * reordered its particles.
+     */
+    static void populate(ParticleSimulation simulation, List<ParticleState> particles, Bounds bounds, Random random) {
+        simulation.setBounds(bounds);
+
+        for (int i = 0; i < PARTICLES; i++) {
+            float lifeTime = 0.05f + random.nextFloat() * 2f;
+            float x = random.nextFloat() * 100f;
+            float y = random.nextFloat() * 100f;
+            float velX = random.nextFloat() * 4f - 2f;
+            float velY = random.nextFloat() * 4f - 2f;
+            float varianceX = random.nextFloat() - 0.5f;
+            float varianceY = random.nextFloat() - 0.5f;
+            float radius = 1f + random.nextFloat() * 10f;
+            int color = 0xFF000000 | i;
+
+            boolean killed = random.nextBoolean();
+            boolean checkBounds = bounds != null && random.nextBoolean();
+            boolean targeted = random.nextInt(4) == 0;
+
+            ParticleState particle = new ParticleState(lifeTime, x, y, velX, velY, varianceX, varianceY, radius, color, bounds);
+            particle.setRadius(radius);
+            particle.setKilled(killed);
+            particle.setCheckBounds(checkBounds);
+
+            int index = simulation.add(lifeTime, x, y, velX, velY, varianceX, varianceY, radius, color);
+            simulation.setFlag(index, ParticleSimulation.FLAG_KILLED, killed);
+            simulation.setFlag(index, ParticleSimulation.FLAG_CHECK_BOUNDS, checkBounds);
+
+            if (targeted) {
+                particle.setTargetX(50f);
+                particle.setTargetY(50f);
+                simulation.setTarget(index, 50f, 50f);
+            }
+
+            particles.add(particle);
+        }
+    }
+
+    static void removeDead(List<ParticleState> particles) {
+        for (int i = particles.size() - 1; i >= 0; i--) {
+            if (!particles.get(i).isAlive()) {
+                particles.remove(i);
+            }
+        }
+    }
+
+    static void assertSameParticles(List<ParticleState> particles, ParticleSimulation simulation) {
+        assertEquals("live particles", particles.size(), simulation.getCount());
+
+        Map<Integer, ParticleState> byColor = new HashMap<>();
+
+        for (ParticleState particle : particles) {
+            byColor.put(particle.getColor().toColor(), particle);
+        }
+
+        for (int i = 0; i < simulation.getCount(); i++) {
+            ParticleState particle = byColor.get(simulation.getColor(i));
+
+            assertNotNull("particle " + Integer.toHexString(simulation.getColor(i)) + " should be dead", particle);
+
+            assertEquals(particle.getCenterX(), simulation.getCenterX(i), DELTA);
+            assertEquals(particle.getCenterY(), simulation.getCenterY(i), DELTA);
+            assertEquals(particle.getVelX(), simulation.getVelX(i), DELTA);
+            assertEquals(particle.getVelY(), simulation.getVelY(i), DELTA);
+            assertEquals(particle.getRadius(), simulation.getRadius(i), DELTA);
+            assertEquals(particle.getOpacity(), simulation.getOpacity(i), DELTA);
+            assertEquals(particle.lifeSpan, simulation.getLifeSpan(i), DELTA);
+        }
+    }
+}
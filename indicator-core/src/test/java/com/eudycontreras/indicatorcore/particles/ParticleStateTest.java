@@ -0,0 +1,56 @@
+package com.eudycontreras.indicatorcore.particles;
+
+import com.eudycontreras.indicatorcore.timing.FixedStepAccumulator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class ParticleStateTest {
+
+    private static final float DELTA = 0.000001f;
+
+    @Test
+    public void resetRestoresTheInitialDecay() {
+        ParticleState particle = new ParticleState(2f, 10f, 20f, 5f, 0xFFFFFFFF, null);
+        float decay = particle.getDecay();
+
+        assertEquals(FixedStepAccumulator.STEP_SECONDS / 2f, decay, DELTA);
+
+        particle.setDecay(0.1f);
+        particle.reset();
+
+        assertEquals(decay, particle.getDecay(), DELTA);
+    }
+
+    @Test
+    public void resetRestoresTheConstructedState() {
+        ParticleState particle = new ParticleState(2f, 10f, 20f, 1f, 1f, 5f, 0xFFFFFFFF, null);
+
+        particle.setKilled(true);
+        particle.setAlwaysAlive(true);
+        particle.setOpacity(0.5f);
+        particle.update();
+        particle.reset();
+
+        assertEquals(0f, particle.getCenterX(), DELTA);
+        assertEquals(0f, particle.getVelX(), DELTA);
+        assertEquals(1f, particle.getOpacity(), DELTA);
+        assertEquals(1f, particle.lifeSpan, DELTA);
+        assertFalse(particle.isKilled());
+        assertFalse(particle.isAlwaysAlive());
+        assertNull(particle.getColor());
+    }
+}
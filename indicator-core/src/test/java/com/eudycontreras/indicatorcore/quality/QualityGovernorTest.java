@@ -0,0 +1,159 @@
+package com.eudycontreras.indicatorcore.quality;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class QualityGovernorTest {
+
+    private static final long BUDGET = 1000;
+    private static final long OVERRUN = BUDGET + 1;
+    private static final long WITHIN = BUDGET;
+
+    private QualityGovernor governor;
+
+    private int changes;
+    private int lastPrevious;
+    private int lastLevel;
+    private int lastDegradations;
+
+    @Before
+    public void setUp() {
+        governor = new QualityGovernor();
+        governor.setFrameBudget(BUDGET);
+        governor.setSampleWindow(10);
+        governor.setOverrunThreshold(3);
+        governor.setRecoveryFrames(5);
+        governor.setQualityListener((previousLevel, level, degradations) -> {
+            changes++;
+            lastPrevious = previousLevel;
+            lastLevel = level;
+            lastDegradations = degradations;
+        });
+    }
+
+    @Test
+    public void stepsDownAfterThresholdOverrunsWithinAWindow() {
+        assertFalse(governor.onFrame(OVERRUN));
+        assertFalse(governor.onFrame(WITHIN));
+        assertFalse(governor.onFrame(OVERRUN));
+        assertTrue(governor.onFrame(OVERRUN));
+
+        assertEquals(1, governor.getLevel());
+        assertEquals(QualityGovernor.DEGRADE_RING_COUNT, governor.getDegradations());
+    }
+
+    @Test
+    public void overrunsSpreadAcrossWindowsDoNotStepDown() {
+        governor.setSampleWindow(4);
+
+        for (int window = 0; window < 20; window++) {
+            assertFalse(governor.onFrame(OVERRUN));
+            assertFalse(governor.onFrame(OVERRUN));
+            assertFalse(governor.onFrame(WITHIN));
+            assertFalse(governor.onFrame(WITHIN));
+        }
+
+        assertEquals(0, governor.getLevel());
+        assertEquals(0, changes);
+    }
+
+    @Test
+    public void stepsUpOnlyAfterConsecutiveRecoveryFrames() {
+        governor.setLevel(2);
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(governor.onFrame(WITHIN));
+        }
+
+        assertFalse(governor.onFrame(OVERRUN));
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(governor.onFrame(WITHIN));
+        }
+
+        assertEquals(2, governor.getLevel());
+        assertTrue(governor.onFrame(WITHIN));
+        assertEquals(1, governor.getLevel());
+    }
+
+    @Test
+    public void levelIsClampedToTheLadder() {
+        int top = QualityGovernor.DEFAULT_LADDER.length - 1;
+
+        assertFalse(governor.setLevel(-1));
+        assertEquals(0, governor.getLevel());
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(governor.onFrame(WITHIN));
+        }
+        assertEquals(0, governor.getLevel());
+
+        assertTrue(governor.setLevel(top + 10));
+        assertEquals(top, governor.getLevel());
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(governor.onFrame(OVERRUN));
+        }
+        assertEquals(top, governor.getLevel());
+        assertEquals(QualityGovernor.DEFAULT_LADDER[top], governor.getDegradations());
+    }
+
+    @Test
+    public void listenerReceivesTheTransition() {
+        governor.onFrame(OVERRUN);
+        governor.onFrame(OVERRUN);
+        governor.onFrame(OVERRUN);
+
+        assertEquals(1, changes);
+        assertEquals(0, lastPrevious);
+        assertEquals(1, lastLevel);
+        assertEquals(QualityGovernor.DEFAULT_LADDER[1], lastDegradations);
+
+        for (int i = 0; i < 5; i++) {
+            governor.onFrame(WITHIN);
+        }
+
+        assertEquals(2, changes);
+        assertEquals(1, lastPrevious);
+        assertEquals(0, lastLevel);
+        assertEquals(0, lastDegradations);
+    }
+
+    @Test
+    public void settingTheLadderResetsTheLevel() {
+        governor.setLevel(3);
+
+        governor.setLadder(0, QualityGovernor.DEGRADE_ANTI_ALIAS);
+
+        assertEquals(0, governor.getLevel());
+        assertEquals(3, lastPrevious);
+        assertEquals(0, lastLevel);
+        assertEquals(0, governor.getDegradations());
+
+        governor.setLevel(5);
+
+        assertEquals(1, governor.getLevel());
+        assertTrue(governor.isDegraded(QualityGovernor.DEGRADE_ANTI_ALIAS));
+        assertFalse(governor.isDegraded(QualityGovernor.DEGRADE_RING_COUNT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyLadderIsRejected() {
+        governor.setLadder();
+    }
+}
@@ -0,0 +1,250 @@
+package com.eudycontreras.indicatorcore.render;
+
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.geometry.RingState;
+import com.eudycontreras.indicatorcore.geometry.TestRingSpec;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class RasterRendererTest {
+
+    private static final int SIZE = 64;
+    private static final int CENTER = SIZE / 2;
+
+    private static final int TRANSPARENT = 0x00000000;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @Test
+    public void fillCircleCoversItsArea() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.fillCircle(CENTER + 0.5f, CENTER + 0.5f, 7.75f, WHITE);
+
+        assertEquals(WHITE, renderer.getPixel(CENTER, CENTER));
+        assertEquals(WHITE, renderer.getPixel(CENTER + 7, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER + 9, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(0, 0));
+
+        assertEquals(64, alpha(renderer.getPixel(CENTER + 8, CENTER)));
+    }
+
+    @Test
+    public void strokeCircleLeavesItsInsideEmpty() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.strokeCircle(CENTER, CENTER, 8f, 2f, WHITE);
+
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER, CENTER));
+        assertEquals(WHITE, renderer.getPixel(CENTER + 7, CENTER));
+        assertEquals(WHITE, renderer.getPixel(CENTER - 8, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER + 10, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER + 5, CENTER));
+    }
+
+    @Test
+    public void fillRoundRectRoundsItsCorners() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.fillRoundRect(8, 8, 40, 24, 6, WHITE);
+
+        assertEquals(WHITE, renderer.getPixel(24, 16));
+        assertEquals(WHITE, renderer.getPixel(8, 16));
+        assertEquals(WHITE, renderer.getPixel(24, 8));
+        assertEquals(TRANSPARENT, renderer.getPixel(8, 8));
+        assertEquals(TRANSPARENT, renderer.getPixel(39, 23));
+        assertEquals(TRANSPARENT, renderer.getPixel(41, 16));
+        assertEquals(TRANSPARENT, renderer.getPixel(24, 25));
+    }
+
+    @Test
+    public void strokeRoundRectLeavesItsInsideEmpty() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.strokeRoundRect(8, 8, 40, 24, 0, 2, WHITE);
+
+        assertEquals(TRANSPARENT, renderer.getPixel(24, 16));
+        assertEquals(WHITE, renderer.getPixel(8, 16));
+        assertEquals(WHITE, renderer.getPixel(7, 16));
+        assertEquals(WHITE, renderer.getPixel(24, 23));
+        assertEquals(TRANSPARENT, renderer.getPixel(5, 16));
+    }
+
+    @Test
+    public void blendingIsSourceOver() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.clear(0xFF0000FF);
+        renderer.fillCircle(CENTER, CENTER, 8, 0x80FF0000);
+
+        assertEquals(0xFF80007F, renderer.getPixel(CENTER, CENTER));
+        assertEquals(0xFF0000FF, renderer.getPixel(0, 0));
+    }
+
+    @Test
+    public void clipOutCircleIsUndoneByRestore() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        int count = renderer.save();
+        renderer.clipOutCircle(CENTER, CENTER, 6);
+        renderer.fillCircle(CENTER, CENTER, 12, WHITE);
+
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER, CENTER));
+        assertEquals(WHITE, renderer.getPixel(CENTER + 9, CENTER));
+
+        renderer.restoreToCount(count);
+        renderer.fillCircle(CENTER, CENTER, 12, WHITE);
+
+        assertEquals(WHITE, renderer.getPixel(CENTER, CENTER));
+    }
+
+    @Test
+    public void clipOutRoundRectMasksItsArea() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.save();
+        renderer.clipOutRoundRect(24, 24, 40, 40, 0);
+        renderer.fillRoundRect(16, 16, 48, 48, 0, WHITE);
+
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(24, 24));
+        assertEquals(WHITE, renderer.getPixel(23, CENTER));
+        assertEquals(WHITE, renderer.getPixel(16, 16));
+    }
+
+    @Test
+    public void clipStackGrowsPastItsInitialDepth() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+        int depth = 10;
+        int[] counts = new int[depth];
+
+        for (int i = 0; i < depth; i++) {
+            counts[i] = renderer.save();
+            renderer.clipOutCircle(4 + (i * 6), 4, 2);
+        }
+
+        assertEquals(depth + 1, renderer.getSaveCount());
+
+        renderer.fillRoundRect(0, 0, SIZE, 8, 0, WHITE);
+
+        for (int i = 0; i < depth; i++) {
+            assertEquals("clip " + i, TRANSPARENT, renderer.getPixel(4 + (i * 6), 4));
+        }
+        assertEquals(WHITE, renderer.getPixel(7, 4));
+
+        renderer.restoreToCount(counts[depth / 2]);
+        renderer.clear(TRANSPARENT);
+        renderer.fillRoundRect(0, 0, SIZE, 8, 0, WHITE);
+
+        for (int i = 0; i < depth; i++) {
+            assertEquals("clip " + i, i < depth / 2 ? TRANSPARENT : WHITE, renderer.getPixel(4 + (i * 6), 4));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void restoreBelowOneUnderflows() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.save();
+        renderer.restoreToCount(0);
+    }
+
+    @Test
+    public void restoreAboveTheSaveCountIsIgnored() {
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        renderer.save();
+        renderer.clipOutCircle(CENTER, CENTER, 6);
+        renderer.restoreToCount(5);
+
+        assertEquals(2, renderer.getSaveCount());
+
+        renderer.fillCircle(CENTER, CENTER, 12, WHITE);
+
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER, CENTER));
+    }
+
+    @Test
+    public void ringPainterClipsIndicatorRingsOutOfTheTarget() {
+        TestRingSpec spec = indicatorSpec();
+        RingState ring = new RingState();
+        RasterRenderer renderer = new RasterRenderer(SIZE, SIZE);
+
+        ring.update(spec, 0.5f);
+
+        int count = renderer.save();
+        assertTrue(RingPainter.clipOut(renderer, spec));
+        RingPainter.draw(renderer, spec, ring);
+        renderer.restoreToCount(count);
+
+        int alpha = Math.round(255f * ring.getOpacity());
+
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER, CENTER));
+        assertEquals((alpha << 24) | 0xFFFFFF, renderer.getPixel(CENTER + 12, CENTER));
+        assertEquals(TRANSPARENT, renderer.getPixel(CENTER + 20, CENTER));
+    }
+
+    /**
+     * Rings at least a pixel wider than the clip are drawn the same whether the target
+     * is clipped out or the ring is drawn as an annulus around it.
+     */
+    @Test
+    public void analyticClipMatchesClipOut() {
+        TestRingSpec spec = indicatorSpec();
+        RingState ring = new RingState();
+
+        for (float time = 0.25f; time <= 1f; time += 0.125f) {
+            ring.update(spec, time);
+
+            spec.useAnalyticClip = false;
+            RasterRenderer clipped = new RasterRenderer(SIZE, SIZE);
+
+            int count = clipped.save();
+            RingPainter.clipOut(clipped, spec);
+            RingPainter.draw(clipped, spec, ring);
+            clipped.restoreToCount(count);
+
+            spec.useAnalyticClip = true;
+            RasterRenderer analytic = new RasterRenderer(SIZE, SIZE);
+
+            RingPainter.clipOut(analytic, spec);
+            RingPainter.draw(analytic, spec, ring);
+
+            for (int i = 0; i < SIZE * SIZE; i++) {
+                assertTrue("pixel " + i + " at time " + time, Math.abs(alpha(clipped.getPixels()[i]) - alpha(analytic.getPixels()[i])) <= 1);
+            }
+        }
+    }
+
+    private static TestRingSpec indicatorSpec() {
+        TestRingSpec spec = new TestRingSpec();
+
+        spec.type = RingSpec.TYPE_INDICATOR;
+        spec.shapeType = RingSpec.SHAPE_CIRCLE;
+        spec.centerX = CENTER;
+        spec.centerY = CENTER;
+        spec.x = CENTER;
+        spec.y = CENTER;
+        spec.minRadius = 6f;
+        spec.maxRadius = 26f;
+        spec.clipRadius = 8f;
+
+        return spec;
+    }
+
+    private static int alpha(int color) {
+        return color >>> 24;
+    }
+}
@@ -0,0 +1,94 @@
+package com.eudycontreras.indicatorcore.timing;
+
+import org.junit.Test;
+
+import static com.eudycontreras.indicatorcore.timing.FixedStepAccumulator.STEP_NANOS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class FixedStepAccumulatorTest {
+
+    private static final float DELTA = 0.0001f;
+
+    @Test
+    public void firstFrameTakesNoStep() {
+        FixedStepAccumulator stepper = new FixedStepAccumulator();
+
+        assertEquals(0, stepper.advance(1000));
+        assertEquals(1, stepper.advance(1000 + STEP_NANOS));
+    }
+
+    @Test
+    public void remainderIsCarriedToTheNextFrame() {
+        FixedStepAccumulator stepper = new FixedStepAccumulator();
+        long halfStep = STEP_NANOS / 2;
+
+        stepper.advance(0);
+
+        assertEquals(1, stepper.advance(STEP_NANOS + halfStep));
+        assertEquals(0.5f, stepper.getInterpolation(), DELTA);
+
+        assertEquals(2, stepper.advance(3 * STEP_NANOS));
+        assertEquals(0f, stepper.getInterpolation(), DELTA);
+    }
+
+    @Test
+    public void sixtyStepsPerSecondOnEveryRefreshRate() {
+        int[] rates = {30, 60, 90, 120, 144};
+
+        for (int rate : rates) {
+            FixedStepAccumulator stepper = new FixedStepAccumulator();
+            int steps = 0;
+
+            for (int frame = 0; frame <= rate; frame++) {
+                steps += stepper.advance(frame * 1000000000L / rate);
+            }
+
+            assertEquals("steps at " + rate + " Hz", 60, steps);
+        }
+    }
+
+    @Test
+    public void stallIsCappedAtMaxSteps() {
+        FixedStepAccumulator stepper = new FixedStepAccumulator();
+
+        stepper.advance(0);
+
+        assertEquals(FixedStepAccumulator.DEFAULT_MAX_STEPS, stepper.advance(10 * STEP_NANOS + STEP_NANOS / 4));
+        assertEquals(0.25f, stepper.getInterpolation(), DELTA);
+
+        assertEquals(1, stepper.advance(11 * STEP_NANOS + STEP_NANOS / 4));
+    }
+
+    @Test
+    public void maxStepsIsAtLeastOne() {
+        FixedStepAccumulator stepper = new FixedStepAccumulator(0);
+
+        stepper.advance(0);
+
+        assertEquals(1, stepper.getMaxSteps());
+        assertEquals(1, stepper.advance(5 * STEP_NANOS));
+    }
+
+    @Test
+    public void resetForgetsThePreviousFrame() {
+        FixedStepAccumulator stepper = new FixedStepAccumulator();
+
+        stepper.advance(0);
+        stepper.advance(STEP_NANOS / 2);
+        stepper.reset();
+
+        assertEquals(0, stepper.advance(100 * STEP_NANOS));
+        assertEquals(0f, stepper.getInterpolation(), DELTA);
+    }
+}
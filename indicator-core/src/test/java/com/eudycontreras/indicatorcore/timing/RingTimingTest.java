@@ -0,0 +1,88 @@
+package com.eudycontreras.indicatorcore.timing;
+
+import org.junit.Test;
+
+import static com.eudycontreras.indicatorcore.timing.RingTiming.INFINITE;
+import static com.eudycontreras.indicatorcore.timing.RingTiming.REPEAT_MODE_RESTART;
+import static com.eudycontreras.indicatorcore.timing.RingTiming.REPEAT_MODE_REVERSE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class RingTimingTest {
+
+    private static final long DURATION = 100;
+
+    private static final float DELTA = 0.0001f;
+
+    @Test
+    public void negativeTimeIsNotStarted() {
+        assertEquals(0f, RingTiming.getFraction(-1, DURATION, 0, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(0f, RingTiming.getFraction(-50, DURATION, INFINITE, REPEAT_MODE_REVERSE), DELTA);
+        assertFalse(RingTiming.isFinished(-1, DURATION, 0));
+    }
+
+    @Test
+    public void zeroTimeIsStart() {
+        assertEquals(0f, RingTiming.getFraction(0, DURATION, 0, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(0f, RingTiming.getFraction(0, DURATION, 2, REPEAT_MODE_REVERSE), DELTA);
+        assertFalse(RingTiming.isFinished(0, DURATION, 0));
+    }
+
+    @Test
+    public void zeroDurationIsFinished() {
+        assertTrue(RingTiming.isFinished(0, 0, INFINITE));
+        assertEquals(1f, RingTiming.getFraction(0, 0, INFINITE, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(1f, RingTiming.getFraction(10, 0, 3, REPEAT_MODE_REVERSE), DELTA);
+    }
+
+    @Test
+    public void restartWithFiniteRepeats() {
+        assertEquals(0.5f, RingTiming.getFraction(50, DURATION, 1, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(0.5f, RingTiming.getFraction(150, DURATION, 1, REPEAT_MODE_RESTART), DELTA);
+
+        assertFalse(RingTiming.isFinished(199, DURATION, 1));
+        assertTrue(RingTiming.isFinished(200, DURATION, 1));
+
+        assertEquals(1f, RingTiming.getFraction(200, DURATION, 1, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(1f, RingTiming.getFraction(5000, DURATION, 1, REPEAT_MODE_RESTART), DELTA);
+    }
+
+    @Test
+    public void restartWithoutRepeatsEndsAfterOneDuration() {
+        assertFalse(RingTiming.isFinished(99, DURATION, 0));
+        assertTrue(RingTiming.isFinished(100, DURATION, 0));
+        assertEquals(1f, RingTiming.getFraction(100, DURATION, 0, REPEAT_MODE_RESTART), DELTA);
+    }
+
+    @Test
+    public void reverseWithFiniteRepeats() {
+        assertEquals(0.25f, RingTiming.getFraction(25, DURATION, 1, REPEAT_MODE_REVERSE), DELTA);
+        assertEquals(0.75f, RingTiming.getFraction(125, DURATION, 1, REPEAT_MODE_REVERSE), DELTA);
+
+        assertTrue(RingTiming.isFinished(200, DURATION, 1));
+
+        assertEquals(0f, RingTiming.getFraction(200, DURATION, 1, REPEAT_MODE_REVERSE), DELTA);
+        assertEquals(1f, RingTiming.getFraction(300, DURATION, 2, REPEAT_MODE_REVERSE), DELTA);
+    }
+
+    @Test
+    public void infiniteRepeatsNeverFinish() {
+        assertFalse(RingTiming.isFinished(Long.MAX_VALUE / 2, DURATION, INFINITE));
+
+        assertEquals(0.5f, RingTiming.getFraction(1050, DURATION, INFINITE, REPEAT_MODE_RESTART), DELTA);
+        assertEquals(0.25f, RingTiming.getFraction(1025, DURATION, INFINITE, REPEAT_MODE_REVERSE), DELTA);
+        assertEquals(0.75f, RingTiming.getFraction(1125, DURATION, INFINITE, REPEAT_MODE_REVERSE), DELTA);
+    }
+}
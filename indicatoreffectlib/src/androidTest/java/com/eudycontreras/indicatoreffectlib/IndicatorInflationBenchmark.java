@@ -0,0 +1,81 @@
+package com.eudycontreras.indicatoreffectlib;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+import com.eudycontreras.indicatoreffectlib.test.R;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+/**
+ * Measures the cost of inflating an indicator view from XML, alone and together
+ * with its first draw, which is where the rings are built. Run on a device with
+ * {@code ./gradlew :indicatoreffectlib:connectedAndroidTest} and read the medians
+ * from logcat under the {@code IndicatorInflation} tag.
+ */
+@RunWith(AndroidJUnit4.class)
+public class IndicatorInflationBenchmark {
+
+    private static final String TAG = "IndicatorInflation";
+
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    private static final int SIZE = 512;
+
+    @Test
+    public void inflate() {
+        measure("inflate", false);
+    }
+
+    @Test
+    public void inflateAndDraw() {
+        measure("inflateAndDraw", true);
+    }
+
+    private void measure(String name, boolean draw) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(() -> {
+            Context context = InstrumentationRegistry.getContext();
+            LayoutInflater inflater = LayoutInflater.from(context);
+
+            Bitmap bitmap = Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888);
+            Canvas canvas = new Canvas(bitmap);
+
+            long[] samples = new long[MEASURED_ITERATIONS];
+
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                long start = SystemClock.elapsedRealtimeNanos();
+
+                View view = inflater.inflate(R.layout.benchmark_indicator_view, null);
+
+                if (draw) {
+                    int spec = View.MeasureSpec.makeMeasureSpec(SIZE, View.MeasureSpec.EXACTLY);
+
+                    view.measure(spec, spec);
+                    view.layout(0, 0, SIZE, SIZE);
+                    view.draw(canvas);
+                }
+
+                long time = SystemClock.elapsedRealtimeNanos() - start;
+
+                if (i >= WARMUP_ITERATIONS) {
+                    samples[i - WARMUP_ITERATIONS] = time;
+                }
+            }
+
+            bitmap.recycle();
+
+            Arrays.sort(samples);
+
+            Log.i(TAG, name + ": median " + samples[samples.length / 2] + " ns, p90 " + samples[(int) (samples.length * 0.9f)] + " ns");
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+import androidx.annotation.RestrictTo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class BakedInterpolator implements Interpolator {
+
+    public static final int DEFAULT_SAMPLE_COUNT = 256;
+
+    private static final Map<Interpolator, BakedInterpolator> bakedInstances = new WeakHashMap<>();
+    private static final Map<String, BakedInterpolator> bakedCurves = new HashMap<>();
+    private static final Map<BakedInterpolator, BakedInterpolator> bakedTables = new HashMap<>();
+
+    private final float[] samples;
+    private final float lastIndex;
+
+    private int hash;
+
+    public BakedInterpolator(Interpolator source) {
+        this(source, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public BakedInterpolator(Interpolator source, int sampleCount) {
+        int count = Math.max(2, sampleCount);
+
+        this.samples = new float[count + 1];
+        this.lastIndex = count;
+
+        for (int i = 0; i <= count; i++) {
+            samples[i] = source.getInterpolation((float) i / (float) count);
+        }
+    }
+
+    /**
+     * Returns a baked version of the given interpolator. Framework interpolators do not
+     * implement equality, so the table is keyed by the sampled curve itself: separately
+     * created instances of the same curve, such as two equal PathInterpolators, share
+     * one table. Repeated calls with the same instance skip the sampling. Linear and
+     * already baked interpolators are returned as they are since they cannot get any
+     * cheaper.
+     *
+     * @param source the interpolator to sample
+     * @return an interpolator answering with a table lookup
+     */
+    public static Interpolator of(Interpolator source) {
+        if (source == null || source instanceof BakedInterpolator || source instanceof LinearInterpolator)
+            return source;
+
+        BakedInterpolator baked = bakedInstances.get(source);
+
+        if (baked == null) {
+            baked = share(new BakedInterpolator(source));
+            bakedInstances.put(source, baked);
+        }
+        return baked;
+    }
+
+    private static BakedInterpolator share(BakedInterpolator baked) {
+        BakedInterpolator shared = bakedTables.get(baked);
+
+        if (shared == null) {
+            bakedTables.put(baked, baked);
+            return baked;
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the baked curve registered under the given key, sampling the given
+     * interpolator the first time the key is seen. Useful for sharing a table between
+     * separately created instances of the same curve.
+     *
+     * @param key the name identifying the curve
+     * @param source the interpolator to sample if the key is not yet known
+     * @return an interpolator answering with a table lookup
+     */
+    public static Interpolator of(String key, Interpolator source) {
+        BakedInterpolator baked = bakedCurves.get(key);
+
+        if (baked == null) {
+            baked = share(new BakedInterpolator(source));
+            bakedCurves.put(key, baked);
+        }
+        return baked;
+    }
+
+    public static void clear() {
+        bakedInstances.clear();
+        bakedCurves.clear();
+        bakedTables.clear();
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+        if (input <= 0f)
+            return samples[0];
+
+        if (input >= 1f)
+            return samples[samples.length - 1];
+
+        float position = input * lastIndex;
+        int index = (int) position;
+        float fraction = position - index;
+
+        return samples[index] + ((samples[index + 1] - samples[index]) * fraction);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+
+        if (!(other instanceof BakedInterpolator))
+            return false;
+
+        return Arrays.equals(samples, ((BakedInterpolator) other).samples);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = Arrays.hashCode(samples);
+        }
+        return hash;
+    }
+}
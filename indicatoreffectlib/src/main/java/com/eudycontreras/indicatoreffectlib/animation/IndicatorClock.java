@@ -0,0 +1,153 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class IndicatorClock {
+
+    @FunctionalInterface
+    public interface FrameListener {
+        void onFrame(long playTime);
+    }
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    private long startTime = -1;
+    private long startDelay = 0;
+    private long lastFrameTime = -1;
+    private long resumeTime = 0;
+
+    private boolean running = false;
+    private boolean paused = false;
+
+    private String phaseGroup;
+
+    private final FrameListener listener;
+
+    public IndicatorClock(FrameListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts ticking on every vsync through the shared {@link IndicatorTicker}. The
+     * play time handed to the listener is measured from the first frame after the
+     * given start delay has elapsed, or from the start of the phase group if any.
+     *
+     * @param startDelay the amount of milliseconds to wait before the first tick
+     */
+    public void start(long startDelay) {
+        stop();
+
+        this.startDelay = startDelay;
+        this.startTime = -1;
+        this.resumeTime = 0;
+        this.running = true;
+
+        IndicatorTicker.getInstance().add(this);
+    }
+
+    public void stop() {
+        paused = false;
+
+        if (!running)
+            return;
+
+        running = false;
+        IndicatorTicker.getInstance().remove(this);
+    }
+
+    /**
+     * Stops ticking while remembering how long the clock has been playing, so a
+     * later call to {@link #resume()} continues with the same play time.
+     */
+    public void pause() {
+        if (!running)
+            return;
+
+        stop();
+
+        if (startTime >= 0) {
+            resumeTime = lastFrameTime - startTime;
+        }
+        paused = true;
+    }
+
+    public void resume() {
+        if (!paused)
+            return;
+
+        paused = false;
+        running = true;
+        startTime = -1;
+
+        IndicatorTicker.getInstance().add(this);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public String getPhaseGroup() {
+        return phaseGroup;
+    }
+
+    /**
+     * Makes the clock share its start time with every other running clock of the
+     * same group, so their rings pulse in sync. A running clock rejoins with the
+     * phase of the new group.
+     *
+     * @param phaseGroup the name of the group, or null to keep an own phase
+     */
+    public void setPhaseGroup(String phaseGroup) {
+        if (phaseGroup == null ? this.phaseGroup == null : phaseGroup.equals(this.phaseGroup))
+            return;
+
+        if (running) {
+            IndicatorTicker.getInstance().remove(this);
+        }
+
+        this.phaseGroup = phaseGroup;
+
+        if (running) {
+            startTime = -1;
+            resumeTime = 0;
+            IndicatorTicker.getInstance().add(this);
+        }
+    }
+
+    void doFrame(long frameTimeNanos) {
+        if (!running)
+            return;
+
+        if (startTime < 0) {
+            startTime = frameTimeNanos - resumeTime;
+
+            if (phaseGroup != null) {
+                startTime = IndicatorTicker.getInstance().getPhaseStart(phaseGroup, startTime);
+            }
+        }
+
+        lastFrameTime = frameTimeNanos;
+
+        long playTime = ((frameTimeNanos - startTime) / NANOS_PER_MILLI) - startDelay;
+
+        if (playTime >= 0) {
+            listener.onFrame(playTime);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import android.view.Choreographer;
+import androidx.annotation.RestrictTo;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class IndicatorTicker implements Choreographer.FrameCallback {
+
+    private static IndicatorTicker instance;
+
+    private final ArrayList<Registration> clocks = new ArrayList<>();
+    private final HashMap<String, PhaseGroup> phaseGroups = new HashMap<>();
+
+    private IndicatorClock[] dispatching = new IndicatorClock[8];
+
+    private boolean posted = false;
+
+    public static IndicatorTicker getInstance() {
+        if (instance == null) {
+            instance = new IndicatorTicker();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a clock to be ticked on every vsync. All registered clocks share a
+     * single frame callback, so any number of running indicators cost one callback
+     * per frame. A clock with a phase group joins that group. Clocks are only held
+     * weakly, so a clock which is never stopped does not keep its owner alive.
+     *
+     * @param clock the clock to tick
+     */
+    public void add(IndicatorClock clock) {
+        if (indexOf(clock) >= 0)
+            return;
+
+        String group = clock.getPhaseGroup();
+
+        clocks.add(new Registration(clock, group));
+
+        if (group != null) {
+            PhaseGroup phaseGroup = phaseGroups.get(group);
+
+            if (phaseGroup == null) {
+                phaseGroup = new PhaseGroup();
+                phaseGroups.put(group, phaseGroup);
+            }
+            phaseGroup.members++;
+        }
+
+        if (!posted) {
+            posted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Unregisters a clock. A phase group is dropped once its last member leaves and
+     * the frame callback is removed once no clock is left.
+     *
+     * @param clock the clock to stop ticking
+     */
+    public void remove(IndicatorClock clock) {
+        int index = indexOf(clock);
+
+        if (index < 0)
+            return;
+
+        leave(clocks.remove(index));
+
+        if (clocks.isEmpty() && posted) {
+            posted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    private int indexOf(IndicatorClock clock) {
+        for (int i = 0; i < clocks.size(); i++) {
+            if (clocks.get(i).clock.get() == clock)
+                return i;
+        }
+        return -1;
+    }
+
+    private void leave(Registration registration) {
+        if (registration.group == null)
+            return;
+
+        PhaseGroup phaseGroup = phaseGroups.get(registration.group);
+
+        if (phaseGroup != null && --phaseGroup.members <= 0) {
+            phaseGroups.remove(registration.group);
+        }
+    }
+
+    /**
+     * Returns the start time shared by the members of the given phase group. The
+     * first member to ask fixes it to the start time it would have used on its own.
+     *
+     * @param group the phase group
+     * @param startTime the start time of the asking clock in nanoseconds
+     * @return the start time of the group in nanoseconds
+     */
+    long getPhaseStart(String group, long startTime) {
+        PhaseGroup phaseGroup = phaseGroups.get(group);
+
+        if (phaseGroup == null)
+            return startTime;
+
+        if (phaseGroup.startTime < 0) {
+            phaseGroup.startTime = startTime;
+        }
+        return phaseGroup.startTime;
+    }
+
+    public int getClockCount() {
+        return clocks.size();
+    }
+
+    /**
+     * Ticks every registered clock in one pass. The clocks are copied up front so
+     * clocks that stop or start while being ticked do not disturb the pass. Clocks
+     * whose owner was collected without stopping them are dropped.
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        posted = false;
+
+        if (dispatching.length < clocks.size()) {
+            dispatching = new IndicatorClock[Math.max(clocks.size(), dispatching.length * 2)];
+        }
+
+        int count = 0;
+
+        for (int i = clocks.size() - 1; i >= 0; i--) {
+            IndicatorClock clock = clocks.get(i).clock.get();
+
+            if (clock == null) {
+                leave(clocks.remove(i));
+            } else {
+                dispatching[count++] = clock;
+            }
+        }
+
+        for (int i = count - 1; i >= 0; i--) {
+            dispatching[i].doFrame(frameTimeNanos);
+            dispatching[i] = null;
+        }
+
+        if (!posted && !clocks.isEmpty()) {
+            posted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private static final class Registration {
+
+        private final WeakReference<IndicatorClock> clock;
+        private final String group;
+
+        private Registration(IndicatorClock clock, String group) {
+            this.clock = new WeakReference<>(clock);
+            this.group = group;
+        }
+    }
+
+    private static final class PhaseGroup {
+
+        private long startTime = -1;
+        private int members = 0;
+    }
+}
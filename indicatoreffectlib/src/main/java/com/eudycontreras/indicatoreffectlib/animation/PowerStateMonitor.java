@@ -0,0 +1,274 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import android.annotation.TargetApi;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.database.ContentObserver;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.PowerManager;
+import android.provider.Settings;
+import androidx.annotation.RestrictTo;
+
+import java.util.ArrayList;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class PowerStateMonitor {
+
+    public static final int STATE_NORMAL = 0;
+    public static final int STATE_LOW_POWER = 1;
+    public static final int STATE_STATIC = 2;
+
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChanged(int state);
+    }
+
+    /**
+     * The system signals the state is computed from, registered with the system only
+     * while the monitor has subscribers.
+     */
+    interface Signals {
+
+        void register(Runnable onChange);
+
+        void unregister();
+
+        boolean isPowerSaveMode();
+
+        int getThermalStatus();
+
+        float getDurationScale();
+    }
+
+    private static PowerStateMonitor instance;
+
+    private final Signals signals;
+
+    private final ArrayList<StateListener> listeners = new ArrayList<>();
+
+    private int state = STATE_NORMAL;
+
+    private float durationScale = 1f;
+
+    private boolean monitoring = false;
+
+    /**
+     * Returns the monitor shared by every indicator of the process. Nothing is registered
+     * with the system until the first listener subscribes.
+     */
+    public static PowerStateMonitor getInstance(Context context) {
+        if (instance == null) {
+            instance = new PowerStateMonitor(new SystemSignals(context));
+        }
+        return instance;
+    }
+
+    PowerStateMonitor(Signals signals) {
+        this.signals = signals;
+    }
+
+    /**
+     * Maps the system signals to a state. Animations are reduced to a static frame when
+     * the user turned animator durations off or the device is severely throttled, and run
+     * at a low rate while in power save mode or moderately throttled.
+     *
+     * @param durationScale the global animator duration scale
+     * @param thermalStatus the thermal status of the device
+     * @param powerSaveMode whether power save mode is on
+     * @return the state the indicators should follow
+     */
+    static int getState(float durationScale, int thermalStatus, boolean powerSaveMode) {
+        if (durationScale == 0f || thermalStatus >= PowerManager.THERMAL_STATUS_SEVERE)
+            return STATE_STATIC;
+
+        if (powerSaveMode || thermalStatus >= PowerManager.THERMAL_STATUS_MODERATE)
+            return STATE_LOW_POWER;
+
+        return STATE_NORMAL;
+    }
+
+    /**
+     * Adds a listener which is notified whenever the state or the animator duration scale
+     * changes. The system signals are followed while at least one listener is subscribed,
+     * so any amount of running indicators share one receiver and one observer.
+     *
+     * @param listener the listener to notify
+     */
+    public void subscribe(StateListener listener) {
+        if (listeners.contains(listener))
+            return;
+
+        listeners.add(listener);
+
+        if (listeners.size() == 1) {
+            start();
+        }
+    }
+
+    public void unsubscribe(StateListener listener) {
+        if (listeners.remove(listener) && listeners.isEmpty()) {
+            stop();
+        }
+    }
+
+    private void start() {
+        if (monitoring)
+            return;
+
+        monitoring = true;
+
+        signals.register(this::refresh);
+        refresh();
+    }
+
+    private void stop() {
+        if (!monitoring)
+            return;
+
+        monitoring = false;
+
+        signals.unregister();
+    }
+
+    /**
+     * Recomputes the state from the system signals and notifies the listeners when the
+     * state or the animator duration scale changed.
+     */
+    public void refresh() {
+        float durationScale = signals.getDurationScale();
+        int state = getState(durationScale, signals.getThermalStatus(), signals.isPowerSaveMode());
+
+        if (state == this.state && durationScale == this.durationScale)
+            return;
+
+        this.state = state;
+        this.durationScale = durationScale;
+
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            listeners.get(i).onStateChanged(state);
+        }
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    /**
+     * Returns the global animator duration scale, as of the last refresh while someone
+     * is subscribed and read from the settings otherwise.
+     */
+    public float getDurationScale() {
+        return monitoring ? durationScale : signals.getDurationScale();
+    }
+
+    public boolean isMonitoring() {
+        return monitoring;
+    }
+
+    private static final class SystemSignals implements Signals {
+
+        private final Context context;
+        private final PowerManager powerManager;
+
+        private Runnable onChange;
+
+        private final BroadcastReceiver powerSaveReceiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                onChange.run();
+            }
+        };
+
+        private final ContentObserver durationScaleObserver = new ContentObserver(new Handler(Looper.getMainLooper())) {
+            @Override
+            public void onChange(boolean selfChange) {
+                onChange.run();
+            }
+        };
+
+        private PowerManager.OnThermalStatusChangedListener thermalListener;
+
+        private SystemSignals(Context context) {
+            this.context = context.getApplicationContext();
+            this.powerManager = (PowerManager) this.context.getSystemService(Context.POWER_SERVICE);
+        }
+
+        @Override
+        public void register(Runnable onChange) {
+            this.onChange = onChange;
+
+            context.registerReceiver(powerSaveReceiver, new IntentFilter(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED));
+            context.getContentResolver().registerContentObserver(Settings.Global.getUriFor(Settings.Global.ANIMATOR_DURATION_SCALE), false, durationScaleObserver);
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                addThermalListener();
+            }
+        }
+
+        @Override
+        public void unregister() {
+            context.unregisterReceiver(powerSaveReceiver);
+            context.getContentResolver().unregisterContentObserver(durationScaleObserver);
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                removeThermalListener();
+            }
+        }
+
+        @TargetApi(Build.VERSION_CODES.Q)
+        private void addThermalListener() {
+            if (powerManager == null)
+                return;
+
+            if (thermalListener == null) {
+                thermalListener = status -> onChange.run();
+            }
+            powerManager.addThermalStatusListener(thermalListener);
+        }
+
+        @TargetApi(Build.VERSION_CODES.Q)
+        private void removeThermalListener() {
+            if (powerManager != null && thermalListener != null) {
+                powerManager.removeThermalStatusListener(thermalListener);
+            }
+        }
+
+        @Override
+        public boolean isPowerSaveMode() {
+            return powerManager != null && powerManager.isPowerSaveMode();
+        }
+
+        @Override
+        public int getThermalStatus() {
+            if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q || powerManager == null)
+                return PowerManager.THERMAL_STATUS_NONE;
+
+            return getThermalStatusQ();
+        }
+
+        @TargetApi(Build.VERSION_CODES.Q)
+        private int getThermalStatusQ() {
+            return powerManager.getCurrentThermalStatus();
+        }
+
+        @Override
+        public float getDurationScale() {
+            return Settings.Global.getFloat(context.getContentResolver(), Settings.Global.ANIMATOR_DURATION_SCALE, 1f);
+        }
+    }
+}
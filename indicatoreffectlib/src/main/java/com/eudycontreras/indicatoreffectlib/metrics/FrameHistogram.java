@@ -0,0 +1,106 @@
+package com.eudycontreras.indicatoreffectlib.metrics;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class FrameHistogram {
+
+    private final long[] bounds;
+    private final long[] counts;
+
+    private long count;
+    private long max;
+
+    /**
+     * Creates a histogram with one bucket per given upper bound plus a bucket for
+     * everything above the last bound. Recording and reading never allocate.
+     *
+     * @param bounds the inclusive upper bound of each bucket in ascending order
+     */
+    public FrameHistogram(long... bounds) {
+        this.bounds = bounds.clone();
+        this.counts = new long[bounds.length + 1];
+    }
+
+    public void record(long value) {
+        int low = 0;
+        int high = bounds.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (bounds[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        counts[low]++;
+        count++;
+
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, or the
+     * largest recorded value when the percentile falls in the overflow bucket.
+     *
+     * @param percentile the percentile between 0 and 1, for example 0.95f
+     * @return the value at or below which the given share of the samples fall
+     */
+    public long getPercentile(float percentile) {
+        if (count == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(percentile * count);
+        long cumulative = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+
+            if (cumulative >= rank) {
+                return i < bounds.length ? Math.min(bounds[i], max) : max;
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    public long getBucketBound(int bucket) {
+        return bucket < bounds.length ? bounds[bucket] : Long.MAX_VALUE;
+    }
+
+    public long getBucketValue(int bucket) {
+        return counts[bucket];
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        count = 0;
+        max = 0;
+    }
+}
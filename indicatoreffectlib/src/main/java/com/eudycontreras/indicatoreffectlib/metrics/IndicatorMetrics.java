@@ -0,0 +1,137 @@
+package com.eudycontreras.indicatoreffectlib.metrics;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class IndicatorMetrics {
+
+    public static final int METRIC_UPDATE_TIME = 0;
+    public static final int METRIC_DRAW_TIME = 1;
+    public static final int METRIC_RINGS_DRAWN = 2;
+    public static final int METRIC_INVALIDATIONS = 3;
+    public static final int METRIC_CLIPS = 4;
+    public static final int METRIC_ALLOCATIONS = 5;
+
+    public static final int METRIC_COUNT = 6;
+
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    private static final long[] TIME_BUCKETS = {
+            10, 25, 50, 100, 250, 500, 1000, 2000, 4000, 8000, 16000, 33000, 66000
+    };
+
+    private static final long[] COUNT_BUCKETS = {
+            0, 1, 2, 3, 4, 6, 8, 12, 16, 24, 32, 64, 128, 256
+    };
+
+    @FunctionalInterface
+    public interface FrameListener {
+        void onFrame(IndicatorMetrics metrics);
+    }
+
+    private final FrameHistogram[] histograms = new FrameHistogram[METRIC_COUNT];
+
+    private final long[] frameValues = new long[METRIC_COUNT];
+    private final long[] lastFrameValues = new long[METRIC_COUNT];
+
+    private long updateStart;
+    private long drawStart;
+    private long frameCount;
+
+    private FrameListener listener;
+
+    public IndicatorMetrics() {
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            histograms[i] = new FrameHistogram(isTimeMetric(i) ? TIME_BUCKETS : COUNT_BUCKETS);
+        }
+    }
+
+    private static boolean isTimeMetric(int metric) {
+        return metric == METRIC_UPDATE_TIME || metric == METRIC_DRAW_TIME;
+    }
+
+    public void beginUpdate() {
+        updateStart = System.nanoTime();
+    }
+
+    public void endUpdate() {
+        frameValues[METRIC_UPDATE_TIME] += System.nanoTime() - updateStart;
+    }
+
+    public void beginDraw() {
+        drawStart = System.nanoTime();
+    }
+
+    public void endDraw() {
+        frameValues[METRIC_DRAW_TIME] += System.nanoTime() - drawStart;
+    }
+
+    public void count(int metric, int amount) {
+        frameValues[metric] += amount;
+    }
+
+    /**
+     * Closes the current frame. Every metric gathered since the previous frame is
+     * recorded into its histogram, times in microseconds, and the listener is notified.
+     */
+    public void endFrame() {
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            long value = isTimeMetric(i) ? frameValues[i] / NANOS_PER_MICRO : frameValues[i];
+
+            histograms[i].record(value);
+            lastFrameValues[i] = value;
+            frameValues[i] = 0;
+        }
+
+        frameCount++;
+
+        if (listener != null) {
+            listener.onFrame(this);
+        }
+    }
+
+    /**
+     * Returns the value the given metric had on the last completed frame. Times
+     * are reported in microseconds.
+     */
+    public long getLastFrameValue(int metric) {
+        return lastFrameValues[metric];
+    }
+
+    public long getPercentile(int metric, float percentile) {
+        return histograms[metric].getPercentile(percentile);
+    }
+
+    public FrameHistogram getHistogram(int metric) {
+        return histograms[metric];
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public FrameListener getFrameListener() {
+        return listener;
+    }
+
+    public void setFrameListener(FrameListener listener) {
+        this.listener = listener;
+    }
+
+    public void reset() {
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            histograms[i].reset();
+            frameValues[i] = 0;
+            lastFrameValues[i] = 0;
+        }
+        frameCount = 0;
+    }
+}
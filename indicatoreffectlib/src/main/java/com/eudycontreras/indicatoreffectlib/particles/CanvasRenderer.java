@@ -0,0 +1,165 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
+import android.graphics.Region;
+import android.os.Build;
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.render.IndicatorRenderer;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class CanvasRenderer implements IndicatorRenderer {
+
+    private Canvas canvas;
+    private Paint paint;
+
+    private Path ringPath;
+
+    private RectF outerRect;
+    private RectF innerRect;
+
+    /**
+     * Points this renderer at the canvas being drawn and the paint used to draw
+     * on it. Clips are taken from the shared {@link RippleClipCache}.
+     */
+    public void setTarget(Canvas canvas, Paint paint) {
+        this.canvas = canvas;
+        this.paint = paint;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public int save() {
+        return canvas.save();
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    public void clipOutCircle(float centerX, float centerY, float radius) {
+        Path clipPath = RippleClipCache.getInstance().getClipPath(RingSpec.SHAPE_CIRCLE, radius * 2, radius * 2, 0f);
+
+        clipOutPath(clipPath, centerX, centerY);
+    }
+
+    @Override
+    public void clipOutRoundRect(float left, float top, float right, float bottom, float cornerRadius) {
+        Path clipPath = RippleClipCache.getInstance().getClipPath(RingSpec.SHAPE_RECTANGLE, right - left, bottom - top, cornerRadius);
+
+        clipOutPath(clipPath, (left + right) / 2f, (top + bottom) / 2f);
+    }
+
+    @SuppressWarnings("Deprecated")
+    @SuppressLint("Deprecated")
+    private void clipOutPath(Path clipPath, float clipX, float clipY) {
+        canvas.translate(clipX, clipY);
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            canvas.clipOutPath(clipPath);
+        } else {
+            canvas.clipPath(clipPath, Region.Op.DIFFERENCE);
+        }
+
+        canvas.translate(-clipX, -clipY);
+    }
+
+    @Override
+    public void fillCircle(float centerX, float centerY, float radius, int color) {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(color);
+
+        canvas.drawCircle(centerX, centerY, radius, paint);
+    }
+
+    @Override
+    public void strokeCircle(float centerX, float centerY, float radius, float strokeWidth, int color) {
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(strokeWidth);
+        paint.setColor(color);
+
+        canvas.drawCircle(centerX, centerY, radius, paint);
+    }
+
+    @Override
+    public void fillRoundRect(float left, float top, float right, float bottom, float cornerRadius, int color) {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(color);
+
+        canvas.drawRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, paint);
+    }
+
+    @Override
+    public void strokeRoundRect(float left, float top, float right, float bottom, float cornerRadius, float strokeWidth, int color) {
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(strokeWidth);
+        paint.setColor(color);
+
+        canvas.drawRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, paint);
+    }
+
+    /**
+     * Fills the area between the outer and the inner round rect with
+     * Canvas.drawDoubleRoundRect on Q and above, and with an even odd path
+     * of both round rects on older versions.
+     */
+    @Override
+    public void fillRoundRectRing(float outerLeft, float outerTop, float outerRight, float outerBottom, float innerLeft, float innerTop, float innerRight, float innerBottom, float cornerRadius, int color) {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(color);
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            drawDoubleRoundRect(outerLeft, outerTop, outerRight, outerBottom, innerLeft, innerTop, innerRight, innerBottom, cornerRadius);
+            return;
+        }
+
+        if (ringPath == null) {
+            ringPath = new Path();
+            ringPath.setFillType(Path.FillType.EVEN_ODD);
+        }
+
+        ringPath.rewind();
+        ringPath.addRoundRect(outerLeft, outerTop, outerRight, outerBottom, cornerRadius, cornerRadius, Path.Direction.CW);
+        ringPath.addRoundRect(innerLeft, innerTop, innerRight, innerBottom, cornerRadius, cornerRadius, Path.Direction.CW);
+
+        canvas.drawPath(ringPath, paint);
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private void drawDoubleRoundRect(float outerLeft, float outerTop, float outerRight, float outerBottom, float innerLeft, float innerTop, float innerRight, float innerBottom, float cornerRadius) {
+        if (outerRect == null) {
+            outerRect = new RectF();
+            innerRect = new RectF();
+        }
+
+        outerRect.set(outerLeft, outerTop, outerRight, outerBottom);
+        innerRect.set(innerLeft, innerTop, innerRight, innerBottom);
+
+        canvas.drawDoubleRoundRect(outerRect, cornerRadius, cornerRadius, innerRect, cornerRadius, cornerRadius, paint);
+    }
+}
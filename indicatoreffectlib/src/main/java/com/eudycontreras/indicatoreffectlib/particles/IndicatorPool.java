@@ -0,0 +1,92 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import android.graphics.Paint;
+import androidx.annotation.RestrictTo;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class IndicatorPool {
+
+    public static final int MAX_POOL_SIZE = 32;
+
+    private static final ParticleIndicator[] pool = new ParticleIndicator[MAX_POOL_SIZE];
+
+    private static int size = 0;
+
+    /**
+     * Returns a recycled indicator along with its paint, or a new one
+     * if the pool is empty. The pool is shared by every indicator view and must only
+     * be used from the main thread.
+     *
+     * @return an indicator in its freshly constructed state
+     */
+    public static ParticleIndicator obtain() {
+        if (size > 0) {
+            ParticleIndicator indicator = pool[--size];
+            pool[size] = null;
+            indicator.pooled = false;
+            return indicator;
+        }
+
+        ParticleIndicator indicator = new ParticleIndicator();
+        indicator.setPaint(new Paint());
+        return indicator;
+    }
+
+    /**
+     * Resets the given indicator and hands it back to the pool. Indicators released
+     * while the pool is full are left for the garbage collector. Releasing an indicator
+     * which is already in the pool does nothing, so it can never be obtained twice.
+     *
+     * @param indicator the indicator to recycle
+     * @return true if the indicator was added to the pool
+     */
+    public static boolean release(ParticleIndicator indicator) {
+        if (indicator == null || indicator.pooled)
+            return false;
+
+        indicator.reset();
+
+        if (size < MAX_POOL_SIZE) {
+            indicator.pooled = true;
+            pool[size++] = indicator;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Releases every indicator of the given array and empties its slots, which is how
+     * an indicator view hands its rings to the next view that needs them.
+     *
+     * @param indicators the indicators to recycle, which may hold empty slots
+     */
+    public static void releaseAll(ParticleIndicator[] indicators) {
+        for (int i = 0; i < indicators.length; i++) {
+            release(indicators[i]);
+            indicators[i] = null;
+        }
+    }
+
+    public static int getSize() {
+        return size;
+    }
+
+    public static void clear() {
+        for (int i = 0; i < size; i++) {
+            pool[i].pooled = false;
+            pool[i] = null;
+        }
+        size = 0;
+    }
+}
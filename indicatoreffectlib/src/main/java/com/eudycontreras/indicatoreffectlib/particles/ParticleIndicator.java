@@ -1,14 +1,15 @@
 package com.eudycontreras.indicatoreffectlib.particles;
 
-import android.annotation.SuppressLint;
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.Path;
-import android.graphics.Region;
-import android.os.Build;
+import android.graphics.RectF;
 import androidx.annotation.RestrictTo;
-import com.eudycontreras.indicatoreffectlib.Bounds;
-import com.eudycontreras.indicatoreffectlib.utilities.ColorUtility;
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.geometry.RingState;
+import com.eudycontreras.indicatorcore.render.IndicatorRenderer;
+import com.eudycontreras.indicatorcore.render.RingPainter;
+import com.eudycontreras.indicatoreffectlib.views.IndicatorConfig;
 import com.eudycontreras.indicatoreffectlib.views.IndicatorView;
 
 /**
@@ -25,45 +26,19 @@ import com.eudycontreras.indicatoreffectlib.views.IndicatorView;
 @RestrictTo(RestrictTo.Scope.LIBRARY)
 public class ParticleIndicator extends Particle {
 
-    public static final int RIPPLE_TYPE_OUTLINE = 0;
-    public static final int RIPPLE_TYPE_FILLED = 1;
-    public static final int RIPPLE_TYPE_INDICATOR = 2;
+    public static final int RIPPLE_TYPE_OUTLINE = RingSpec.TYPE_OUTLINE;
+    public static final int RIPPLE_TYPE_FILLED = RingSpec.TYPE_FILLED;
+    public static final int RIPPLE_TYPE_INDICATOR = RingSpec.TYPE_INDICATOR;
 
-    private float cornerRadius = 0;
+    private static final float ANTI_ALIAS_PADDING = 1f;
 
-    private float x;
-    private float y;
+    private final RingState ring = new RingState();
 
-    private float width;
-    private float height;
+    private IndicatorConfig config;
 
-    private float maxWidth;
-    private float maxHeight;
+    private CanvasRenderer renderer;
 
-    private float minWidth;
-    private float minHeight;
-
-    private float maxRadius;
-    private float minRadius;
-
-    private float minOpacity;
-    private float maxOpacity;
-
-    private float clipRadius;
-
-    private float clipWidhtRatio;
-    private float clipHeightRatio;
-
-    private float strokeWidth;
-
-    private float innerOutlineWidth;
-
-    private float interpolation;
-
-    private int shapeType;
-    private int type;
-
-    private Path clipPath;
+    boolean pooled;
 
     public ParticleIndicator() {
         super(0, 0, 0, 0, null, null);
@@ -77,224 +52,153 @@ public class ParticleIndicator extends Particle {
         super(x, y, radius, color, bounds);
     }
 
-    public void init() {
-        clipPath = new Path();
-        clipPath.reset();
-        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
-            clipPath.addCircle(centerX, centerY, clipRadius, Path.Direction.CCW);
-        } else {
-            float top = y - (minHeight / 2);
-            float left = x - (minWidth / 2);
-            float bottom = y + (minHeight / 2);
-            float right = x + (minWidth / 2);
-            clipPath.addRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, Path.Direction.CCW);
-        }
+    /**
+     * Clips the area covered by the target out of the canvas when this ripple is an
+     * indicator type ripple. Meant to be applied once, inside a single save and restore,
+     * around every ripple that shares the configuration of this ripple.
+     *
+     * @param canvas the canvas to clip
+     * @return true if a clip was applied
+     */
+    public boolean clipOut(Canvas canvas) {
+        return RingPainter.clipOut(getRenderer(canvas), config);
     }
 
     @Override
-    public void update() {
+    public void reset() {
+        super.reset();
+        ring.reset();
+        config = null;
+    }
 
+    /**
+     * Collapses the animated state of this ripple so it draws nothing until its
+     * next update, without touching its configuration or clip path.
+     */
+    public void rewind() {
+        radius = 0;
+        ring.rewind();
     }
 
     @Override
-    public void update(float duration, float time) {
-        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
-            radius = minRadius + ((maxRadius - minRadius) * time);
-        } else {
-            width = minWidth + ((maxWidth - minWidth) * time);
-            height = minHeight + ((maxHeight - minHeight) * time);
-
-            x = x - (width / 2);
-            y = y - (height / 2);
-        }
-
-        opacity = minOpacity + ((maxOpacity - minOpacity) * (maxOpacity - minOpacity - time));
-
-        if (opacity < 0f)
-            opacity = 0f;
-        if (opacity > 1f)
-            opacity = 1f;
+    public void init() {
 
-        if (colorStart != null && colorEnd != null) {
-            ColorUtility.interpolateColor(colorStart, colorEnd, time, color);
-        }
     }
 
     @Override
-    public boolean isAlive() {
-        return (opacity > 0f && (radius > 0 || width > 0 || height > 0)) || alwaysAlive;
-    }
-
-    public void draw(Canvas canvas) {
-        switch (type) {
-            case RIPPLE_TYPE_FILLED:
-                drawFilledRipple(canvas);
-                break;
-            case RIPPLE_TYPE_INDICATOR:
-                drawIndicatorRipple(canvas);
-                break;
-            case RIPPLE_TYPE_OUTLINE:
-                drawOutLineRipple(canvas);
-                break;
-        }
-
-        if (innerOutlineColor != null) {
-            paint.setStyle(Paint.Style.STROKE);
-            paint.setStrokeWidth(innerOutlineWidth);
-            paint.setColor(innerOutlineColor.toColor());
+    public void update() {
 
-            canvas.drawCircle(centerX, centerY, minRadius, paint);
-        }
     }
 
-    private void drawFilledRipple(Canvas canvas) {
-        color.setAlpha(opacity);
-
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(color.toColor());
-
-        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
-            canvas.drawCircle(centerX, centerY, radius, paint);
-
-            if (strokeColor != null) {
-                strokeColor.setAlpha(opacity);
+    @Override
+    public void update(float duration, float time) {
+        ring.update(config, time);
 
-                paint.setStyle(Paint.Style.STROKE);
-                paint.setStrokeWidth(strokeWidth);
-                paint.setColor(strokeColor.toColor());
+        radius = ring.getRadius();
+        opacity = ring.getOpacity();
+    }
 
-                canvas.drawCircle(centerX, centerY, radius, paint);
+    @Override
+    public boolean isAlive() {
+        return !ring.isEmpty() || alwaysAlive;
+    }
+
+    /**
+     * Computes the area this ripple covers when drawn, including its border
+     * stroke and inner outline. The bounds are set to empty when nothing is visible.
+     *
+     * @param bounds the rect which will hold the covered area
+     */
+    public void getDirtyBounds(RectF bounds) {
+        bounds.setEmpty();
+
+        if (config == null)
+            return;
+
+        float stroke = (config.getType() == RIPPLE_TYPE_OUTLINE || config.isShowBorderStroke()) ? config.getStrokeWidth() : 0f;
+        float padding = (stroke / 2f) + ANTI_ALIAS_PADDING;
+
+        float centerX = config.getCenterX();
+        float centerY = config.getCenterY();
+
+        if (opacity > 0f) {
+            if (config.getShapeType() == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
+                if (radius > 0) {
+                    bounds.set(centerX - radius - padding, centerY - radius - padding, centerX + radius + padding, centerY + radius + padding);
+                }
+            } else if (ring.getWidth() > 0 || ring.getHeight() > 0) {
+                bounds.set(ring.getLeft() - padding, ring.getTop() - padding, ring.getLeft() + ring.getWidth() + padding, ring.getTop() + ring.getHeight() + padding);
             }
-
-        } else {
-            float top = y;
-            float left = x;
-            float bottom = y + height;
-            float right = x + width;
-            canvas.drawRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, paint);
         }
-    }
 
-    private void drawOutLineRipple(Canvas canvas) {
-        color.setAlpha(opacity);
-
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(strokeWidth);
-        paint.setColor(color.toColor());
-
-        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
-            canvas.drawCircle(centerX, centerY, radius, paint);
-        } else {
-            float top = y;
-            float left = x;
-            float bottom = y + height;
-            float right = x + width;
-            canvas.drawRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, paint);
+        if (config.isShowInnerOutline()) {
+            float outline = config.getMinRadius() + (config.getInnerOutlineWidth() / 2f) + ANTI_ALIAS_PADDING;
+            bounds.union(centerX - outline, centerY - outline, centerX + outline, centerY + outline);
         }
     }
 
-    @SuppressWarnings("Deprecated")
-    @SuppressLint("Deprecated")
-    private void drawIndicatorRipple(Canvas canvas) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-            canvas.clipOutPath(clipPath);
-        } else {
-            canvas.clipPath(clipPath, Region.Op.DIFFERENCE);
-        }
-
-        color.setAlpha(opacity);
-
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(color.toColor());
-
-        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
-            canvas.drawCircle(centerX, centerY, radius, paint);
-
-            if (strokeColor != null) {
-                strokeColor.setAlpha(opacity);
-
-                paint.setStyle(Paint.Style.STROKE);
-                paint.setStrokeWidth(strokeWidth);
-                paint.setColor(strokeColor.toColor());
-
-                canvas.drawCircle(centerX, centerY, radius, paint);
-            }
-
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                canvas.clipOutPath(clipPath);
-            } else {
-                canvas.clipPath(clipPath, Region.Op.DIFFERENCE);
-            }
-        } else {
-            float top = y;
-            float left = x;
-            float bottom = y + height;
-            float right = x + width;
-            canvas.drawRoundRect(left, top, right, bottom, cornerRadius, cornerRadius, paint);
+    public void draw(Canvas canvas) {
+        if (config.getType() != RIPPLE_TYPE_INDICATOR && drawSpriteRipple(canvas)) {
+            RingPainter.drawInnerOutline(getRenderer(canvas), config);
+            return;
         }
-    }
 
-    public void setMinRadius(float minRadius) {
-        this.minRadius = minRadius;
+        draw(getRenderer(canvas));
     }
 
-    public void setMaxRadius(float maxRadius) {
-        this.maxRadius = maxRadius;
+    /**
+     * Draws this ripple into the given render target. Used directly by targets
+     * other than a canvas, such as an off screen raster.
+     *
+     * @param renderer the target to draw into
+     */
+    public void draw(IndicatorRenderer renderer) {
+        RingPainter.draw(renderer, config, ring);
     }
 
-    public void setMinOpacity(float minOpacity) {
-        this.minOpacity = minOpacity;
-    }
-
-    public void setMaxOpacity(float minOpacity) {
-        this.maxOpacity = minOpacity;
-    }
-
-    public void setClipRadius(float clipRadius) {
-        this.clipRadius = clipRadius;
-    }
-
-    public void setType(int type) {
-        this.type = type;
-    }
-
-    public void setStrokeWidth(float strokeWidth) {
-        this.strokeWidth = strokeWidth;
+    private CanvasRenderer getRenderer(Canvas canvas) {
+        if (renderer == null) {
+            renderer = new CanvasRenderer();
+        }
+        renderer.setTarget(canvas, paint);
+        return renderer;
     }
 
-    public void setInnerOutlineWidth(float innerOutlineWidth) {
-        this.innerOutlineWidth = innerOutlineWidth;
-    }
+    private boolean drawSpriteRipple(Canvas canvas) {
+        if (!config.isUseSpriteCache() || config.isUseColorInterpolation())
+            return false;
 
-    public void setCornerRadius(float cornerRadius) {
-        this.cornerRadius = cornerRadius;
-    }
+        RippleSpriteCache spriteCache = RippleSpriteCache.getInstance();
 
-    public void setShapeType(int shapeType) {
-        this.shapeType = shapeType;
-    }
+        if (opacity <= 0f)
+            return true;
 
-    public void setMaxWidth(float width) {
-        this.maxWidth = width;
-    }
+        boolean circle = config.getShapeType() == IndicatorView.INDICATOR_SHAPE_CIRCLE;
 
-    public void setMaxHeight(float height) {
-        this.maxHeight = height;
-    }
+        float left = circle ? config.getCenterX() - radius : ring.getLeft();
+        float top = circle ? config.getCenterY() - radius : ring.getTop();
+        float spriteWidth = circle ? radius * 2 : ring.getWidth();
+        float spriteHeight = circle ? radius * 2 : ring.getHeight();
 
-    public void setMinWidth(float width) {
-        this.minWidth = width;
+        return spriteCache.drawSprite(canvas, paint, config.getType(), config.getShapeType(), ring.getColor(), config.getStrokeColor(), config.isShowBorderStroke(), config.getStrokeWidth(), config.getCornerRadius(), left, top, spriteWidth, spriteHeight, opacity);
     }
 
-    public void setMinHeight(float height) {
-        this.minHeight = height;
-    }
+    /**
+     * Points this ripple at the given shared configuration. Geometry and colors
+     * are read from the configuration every frame rather than copied per ripple.
+     *
+     * @param config the configuration shared by every ripple of an indicator
+     */
+    public void setConfig(IndicatorConfig config) {
+        this.config = config;
 
-    public void setY(float y) {
-        this.y = y;
+        if (config != null) {
+            this.centerX = config.getCenterX();
+            this.centerY = config.getCenterY();
+        }
     }
 
-    public void setX(float x) {
-        this.x = x;
+    public IndicatorConfig getConfig() {
+        return config;
     }
 }
@@ -0,0 +1,47 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatorcore.particles.ParticleSimulation;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class ParticleSystem extends ParticleSimulation {
+
+    public ParticleSystem() {
+        super();
+    }
+
+    public ParticleSystem(int capacity) {
+        super(capacity);
+    }
+
+    public void draw(Canvas canvas, Paint paint) {
+        paint.setStyle(Paint.Style.FILL);
+
+        for (int i = 0, count = getCount(); i < count; i++) {
+            float alpha = getOpacity(i);
+            float radius = getRadius(i);
+
+            if (alpha <= 0f || radius <= 0f)
+                continue;
+
+            if (alpha > 1f)
+                alpha = 1f;
+
+            paint.setColor((getColor(i) & 0x00FFFFFF) | (Math.round(255f * alpha) << 24));
+            canvas.drawCircle(getCenterX(i), getCenterY(i), radius, paint);
+        }
+    }
+}
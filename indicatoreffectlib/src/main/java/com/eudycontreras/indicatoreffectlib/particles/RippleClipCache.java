@@ -0,0 +1,130 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import android.graphics.Path;
+import android.util.LruCache;
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatoreffectlib.views.IndicatorView;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class RippleClipCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 16;
+
+    private static RippleClipCache instance;
+
+    private final LruCache<ClipKey, Path> paths;
+    private final ClipKey lookupKey = new ClipKey();
+
+    public static RippleClipCache getInstance() {
+        if (instance == null) {
+            instance = new RippleClipCache(DEFAULT_MAX_ENTRIES);
+        }
+        return instance;
+    }
+
+    public RippleClipCache(int maxEntries) {
+        this.paths = new LruCache<>(maxEntries);
+    }
+
+    /**
+     * Returns the clip geometry for the given shape centered around the origin, so
+     * the same path can be shared by every indicator of that shape and size regardless
+     * of where it is drawn. The caller translates the canvas to the clip center.
+     *
+     * @param shapeType the shape of the clip
+     * @param width the width of the clip, or the diameter for circles
+     * @param height the height of the clip, or the diameter for circles
+     * @param cornerRadius the corner radius of rectangular clips
+     * @return the cached clip path
+     */
+    public Path getClipPath(int shapeType, float width, float height, float cornerRadius) {
+        if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
+            height = width;
+            cornerRadius = 0f;
+        }
+
+        lookupKey.set(shapeType, width, height, cornerRadius);
+
+        Path path = paths.get(lookupKey);
+
+        if (path == null) {
+            path = new Path();
+
+            if (shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
+                path.addCircle(0f, 0f, width / 2f, Path.Direction.CCW);
+            } else {
+                path.addRoundRect(-width / 2f, -height / 2f, width / 2f, height / 2f, cornerRadius, cornerRadius, Path.Direction.CCW);
+            }
+
+            paths.put(new ClipKey(lookupKey), path);
+        }
+
+        return path;
+    }
+
+    public int getSize() {
+        return paths.size();
+    }
+
+    public void clear() {
+        paths.evictAll();
+    }
+
+    private static final class ClipKey {
+
+        private int shapeType;
+
+        private float width;
+        private float height;
+        private float cornerRadius;
+
+        ClipKey() { }
+
+        ClipKey(ClipKey key) {
+            set(key.shapeType, key.width, key.height, key.cornerRadius);
+        }
+
+        void set(int shapeType, float width, float height, float cornerRadius) {
+            this.shapeType = shapeType;
+            this.width = width;
+            this.height = height;
+            this.cornerRadius = cornerRadius;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+
+            if (!(other instanceof ClipKey))
+                return false;
+
+            ClipKey key = (ClipKey) other;
+
+            return shapeType == key.shapeType
+                    && Float.compare(width, key.width) == 0
+                    && Float.compare(height, key.height) == 0
+                    && Float.compare(cornerRadius, key.cornerRadius) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shapeType;
+            result = 31 * result + Float.floatToIntBits(width);
+            result = 31 * result + Float.floatToIntBits(height);
+            result = 31 * result + Float.floatToIntBits(cornerRadius);
+            return result;
+        }
+    }
+}
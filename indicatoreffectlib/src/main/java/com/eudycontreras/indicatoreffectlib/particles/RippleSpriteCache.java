@@ -0,0 +1,255 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.util.LruCache;
+import androidx.annotation.RestrictTo;
+import com.eudycontreras.indicatoreffectlib.views.IndicatorView;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public class RippleSpriteCache {
+
+    public static final int DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+    public static final float DEFAULT_SIZE_STEP = 4f;
+
+    private static final float ANTI_ALIAS_PADDING = 1f;
+
+    private static RippleSpriteCache instance;
+
+    private final LruCache<SpriteKey, Bitmap> sprites;
+    private final SpriteKey lookupKey = new SpriteKey();
+    private final RectF destination = new RectF();
+    private final Paint spritePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private float sizeStep = DEFAULT_SIZE_STEP;
+
+    public static RippleSpriteCache getInstance() {
+        if (instance == null) {
+            instance = new RippleSpriteCache(DEFAULT_MAX_SIZE);
+        }
+        return instance;
+    }
+
+    public RippleSpriteCache(int maxSize) {
+        this.sprites = new LruCache<SpriteKey, Bitmap>(maxSize) {
+            @Override
+            protected int sizeOf(SpriteKey key, Bitmap sprite) {
+                return sprite.getAllocationByteCount();
+            }
+        };
+    }
+
+    /**
+     * Blits a pre rendered sprite of the described ripple into the given area. Sizes are
+     * quantized upwards to the size step and the sprite is scaled down to the exact area, so
+     * a growing ripple only renders a new sprite every few pixels.
+     *
+     * @return false if the ripple cannot be served from the cache and must be drawn directly
+     */
+    public boolean drawSprite(Canvas canvas, Paint paint, int type, int shapeType, int color, int strokeColor, boolean stroke, float strokeWidth, float cornerRadius, float left, float top, float width, float height, float opacity) {
+        float spriteWidth = quantize(width);
+        float spriteHeight = quantize(height);
+
+        if (spriteWidth <= 0 || spriteHeight <= 0)
+            return false;
+
+        lookupKey.set(type, shapeType, color | 0xFF000000, stroke ? (strokeColor | 0xFF000000) : 0, stroke, strokeWidth, cornerRadius, spriteWidth, spriteHeight);
+
+        Bitmap sprite = sprites.get(lookupKey);
+
+        if (sprite == null) {
+            float padding = getPadding(lookupKey);
+            long byteCount = (long) Math.ceil(spriteWidth + padding * 2) * (long) Math.ceil(spriteHeight + padding * 2) * 4L;
+
+            if (byteCount > sprites.maxSize() / 4)
+                return false;
+
+            sprite = renderSprite(lookupKey, padding);
+            sprites.put(new SpriteKey(lookupKey), sprite);
+        }
+
+        float padding = getPadding(lookupKey);
+        float scaleX = width / spriteWidth;
+        float scaleY = height / spriteHeight;
+
+        destination.set(
+                left - (padding * scaleX),
+                top - (padding * scaleY),
+                left + ((spriteWidth + padding) * scaleX),
+                top + ((spriteHeight + padding) * scaleY)
+        );
+
+        paint.setFilterBitmap(true);
+        paint.setAlpha(Math.round(255f * opacity));
+
+        canvas.drawBitmap(sprite, null, destination, paint);
+        return true;
+    }
+
+    public float quantize(float size) {
+        return (float) Math.ceil(size / sizeStep) * sizeStep;
+    }
+
+    public void setSizeStep(float sizeStep) {
+        if (sizeStep == this.sizeStep)
+            return;
+
+        this.sizeStep = sizeStep;
+        this.sprites.evictAll();
+    }
+
+    public float getSizeStep() {
+        return sizeStep;
+    }
+
+    public void setMaxSize(int maxSize) {
+        sprites.resize(maxSize);
+    }
+
+    public int getMaxSize() {
+        return sprites.maxSize();
+    }
+
+    public int getSize() {
+        return sprites.size();
+    }
+
+    public void clear() {
+        sprites.evictAll();
+    }
+
+    private float getPadding(SpriteKey key) {
+        float stroke = (key.type == ParticleIndicator.RIPPLE_TYPE_OUTLINE || key.stroke) ? key.strokeWidth : 0f;
+        return (stroke / 2f) + ANTI_ALIAS_PADDING;
+    }
+
+    private Bitmap renderSprite(SpriteKey key, float padding) {
+        int bitmapWidth = (int) Math.ceil(key.width + padding * 2);
+        int bitmapHeight = (int) Math.ceil(key.height + padding * 2);
+
+        Bitmap sprite = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(sprite);
+
+        float left = padding;
+        float top = padding;
+        float right = padding + key.width;
+        float bottom = padding + key.height;
+
+        float centerX = padding + (key.width / 2f);
+        float centerY = padding + (key.height / 2f);
+        float radius = key.width / 2f;
+
+        spritePaint.setColor(key.color);
+
+        if (key.type == ParticleIndicator.RIPPLE_TYPE_OUTLINE) {
+            spritePaint.setStyle(Paint.Style.STROKE);
+            spritePaint.setStrokeWidth(key.strokeWidth);
+
+            if (key.shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
+                canvas.drawCircle(centerX, centerY, radius, spritePaint);
+            } else {
+                canvas.drawRoundRect(left, top, right, bottom, key.cornerRadius, key.cornerRadius, spritePaint);
+            }
+        } else {
+            spritePaint.setStyle(Paint.Style.FILL);
+
+            if (key.shapeType == IndicatorView.INDICATOR_SHAPE_CIRCLE) {
+                canvas.drawCircle(centerX, centerY, radius, spritePaint);
+
+                if (key.stroke) {
+                    spritePaint.setStyle(Paint.Style.STROKE);
+                    spritePaint.setStrokeWidth(key.strokeWidth);
+                    spritePaint.setColor(key.strokeColor);
+
+                    canvas.drawCircle(centerX, centerY, radius, spritePaint);
+                }
+            } else {
+                canvas.drawRoundRect(left, top, right, bottom, key.cornerRadius, key.cornerRadius, spritePaint);
+            }
+        }
+
+        sprite.prepareToDraw();
+        return sprite;
+    }
+
+    private static final class SpriteKey {
+
+        private int type;
+        private int shapeType;
+        private int color;
+        private int strokeColor;
+
+        private boolean stroke;
+
+        private float strokeWidth;
+        private float cornerRadius;
+        private float width;
+        private float height;
+
+        SpriteKey() { }
+
+        SpriteKey(SpriteKey key) {
+            set(key.type, key.shapeType, key.color, key.strokeColor, key.stroke, key.strokeWidth, key.cornerRadius, key.width, key.height);
+        }
+
+        void set(int type, int shapeType, int color, int strokeColor, boolean stroke, float strokeWidth, float cornerRadius, float width, float height) {
+            this.type = type;
+            this.shapeType = shapeType;
+            this.color = color;
+            this.strokeColor = strokeColor;
+            this.stroke = stroke;
+            this.strokeWidth = strokeWidth;
+            this.cornerRadius = cornerRadius;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+
+            if (!(other instanceof SpriteKey))
+                return false;
+
+            SpriteKey key = (SpriteKey) other;
+
+            return type == key.type
+                    && shapeType == key.shapeType
+                    && color == key.color
+                    && strokeColor == key.strokeColor
+                    && stroke == key.stroke
+                    && Float.compare(strokeWidth, key.strokeWidth) == 0
+                    && Float.compare(cornerRadius, key.cornerRadius) == 0
+                    && Float.compare(width, key.width) == 0
+                    && Float.compare(height, key.height) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type;
+            result = 31 * result + shapeType;
+            result = 31 * result + color;
+            result = 31 * result + strokeColor;
+            result = 31 * result + (stroke ? 1 : 0);
+            result = 31 * result + Float.floatToIntBits(strokeWidth);
+            result = 31 * result + Float.floatToIntBits(cornerRadius);
+            result = 31 * result + Float.floatToIntBits(width);
+            result = 31 * result + Float.floatToIntBits(height);
+            return result;
+        }
+    }
+}
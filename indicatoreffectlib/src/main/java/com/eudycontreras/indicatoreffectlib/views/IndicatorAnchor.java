@@ -0,0 +1,425 @@
+package com.eudycontreras.indicatoreffectlib.views;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.view.animation.Interpolator;
+import com.eudycontreras.indicatorcore.timing.RingTiming;
+import com.eudycontreras.indicatoreffectlib.metrics.IndicatorMetrics;
+import com.eudycontreras.indicatoreffectlib.particles.ParticleIndicator;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author Eudy Contreras
+ * @version 1.0
+ * @since 2018-03-31
+ */
+public class IndicatorAnchor {
+
+    private float x;
+    private float y;
+
+    private float builtX;
+    private float builtY;
+
+    private long phaseOffset = 0;
+
+    private int indicatorType = IndicatorView.INDICATOR_TYPE_FILLED;
+    private int indicatorShape = IndicatorView.INDICATOR_SHAPE_CIRCLE;
+    private int indicatorCount = 3;
+    private int indicatorColor = 0xFFFFFFFF;
+    private int indicatorStrokeColor = 0xFFFFFFFF;
+    private int indicatorRepeats = IndicatorView.INFINITE_REPEATS;
+    private int indicatorRepeatMode = IndicatorView.REPEAT_MODE_RESTART;
+
+    private long indicatorDuration = 2000;
+
+    private float indicatorMinOpacity = 0f;
+    private float indicatorMaxOpacity = 1f;
+
+    private float indicatorClipRadius;
+    private float indicatorMinRadius;
+    private float indicatorMaxRadius;
+
+    private float indicatorMinWidth;
+    private float indicatorMinHeight;
+
+    private float indicatorMaxWidth;
+    private float indicatorMaxHeight;
+
+    private float indicatorCornerRadius;
+    private float indicatorStrokeWidth;
+
+    private boolean showBorderStroke = false;
+    private boolean useAnalyticClip = false;
+    private boolean changed = true;
+
+    private ParticleIndicator[] indicators = new ParticleIndicator[0];
+
+    private Paint paint;
+
+    public IndicatorAnchor(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    void attach(Paint paint) {
+        this.paint = paint;
+        this.changed = true;
+    }
+
+    void detach() {
+        this.paint = null;
+        this.indicators = new ParticleIndicator[0];
+    }
+
+    /**
+     * Builds the configuration of the ripples around the current position. Only changes
+     * to the look of the ripples require a rebuild. Later moves are applied as an offset
+     * from the position the configuration was built at, see {@link #setPosition(float, float)}.
+     */
+    private void build() {
+        if (indicators.length != indicatorCount) {
+            indicators = new ParticleIndicator[indicatorCount];
+        }
+
+        IndicatorConfig config = new IndicatorConfig.Builder()
+                .setType(indicatorType)
+                .setShapeType(indicatorShape)
+                .setColor(indicatorColor)
+                .setStrokeColor(indicatorStrokeColor)
+                .setShowBorderStroke(showBorderStroke)
+                .setUseAnalyticClip(useAnalyticClip)
+                .setStrokeWidth(indicatorStrokeWidth)
+                .setCornerRadius(indicatorCornerRadius)
+                .setOpacity(indicatorMinOpacity, indicatorMaxOpacity)
+                .setRadius(indicatorMinRadius, indicatorMaxRadius)
+                .setClipRadius(indicatorClipRadius)
+                .setMinSize(indicatorMinWidth, indicatorMinHeight)
+                .setMaxSize(indicatorMaxWidth, indicatorMaxHeight)
+                .setPosition(x, y)
+                .setCenter(x, y)
+                .build();
+
+        builtX = x;
+        builtY = y;
+
+        for (int i = 0; i < indicators.length; i++) {
+            if (indicators[i] == null) {
+                indicators[i] = new ParticleIndicator();
+            }
+
+            ParticleIndicator indicator = indicators[i];
+            indicator.setPaint(paint);
+            indicator.setConfig(config);
+            indicator.setVisible(true);
+            indicator.setAlwaysAlive(true);
+        }
+
+        changed = false;
+    }
+
+    /**
+     * Advances the ripples of this anchor to the given play time of the host clock.
+     *
+     * @return true if every ripple of this anchor has finished
+     */
+    boolean update(long playTime, Interpolator interpolator) {
+        if (paint == null)
+            return true;
+
+        prepare();
+
+        boolean finished = true;
+        long time = playTime + phaseOffset;
+        long delay = indicatorCount > 0 ? indicatorDuration / indicatorCount : 0;
+
+        for (int i = 0; i < indicators.length; i++) {
+            long ringTime = time - (i * delay);
+
+            if (ringTime < 0) {
+                finished = false;
+                continue;
+            }
+
+            if (!RingTiming.isFinished(ringTime, indicatorDuration, indicatorRepeats)) {
+                finished = false;
+            }
+
+            float fraction = RingTiming.getFraction(ringTime, indicatorDuration, indicatorRepeats, indicatorRepeatMode);
+
+            indicators[i].update(indicatorDuration, interpolator.getInterpolation(fraction));
+        }
+
+        return finished;
+    }
+
+    void draw(Canvas canvas) {
+        draw(canvas, null);
+    }
+
+    void draw(Canvas canvas, IndicatorMetrics metrics) {
+        if (paint == null)
+            return;
+
+        prepare();
+
+        int count = canvas.save();
+
+        canvas.translate(x - builtX, y - builtY);
+
+        if (indicators.length > 0 && indicators[0].clipOut(canvas) && metrics != null) {
+            metrics.count(IndicatorMetrics.METRIC_CLIPS, 1);
+        }
+
+        for (ParticleIndicator indicator : indicators) {
+            indicator.draw(canvas);
+        }
+
+        canvas.restoreToCount(count);
+
+        if (metrics != null) {
+            metrics.count(IndicatorMetrics.METRIC_RINGS_DRAWN, indicators.length);
+        }
+    }
+
+    void unionDirtyBounds(RectF dirtyBounds, RectF indicatorBounds) {
+        if (paint == null)
+            return;
+
+        prepare();
+
+        for (ParticleIndicator indicator : indicators) {
+            indicator.getDirtyBounds(indicatorBounds);
+            indicatorBounds.offset(x - builtX, y - builtY);
+            dirtyBounds.union(indicatorBounds);
+        }
+    }
+
+    /**
+     * Rebuilds the ripples if their look changed since they were last built, so drawing
+     * and invalidating do not depend on an update having run first.
+     */
+    private void prepare() {
+        if (changed) {
+            build();
+        }
+    }
+
+    /**
+     * Moves the ripples to the given position. The configuration is kept and the ripples
+     * are drawn offset from where it was built, so moving an anchor on every frame, for
+     * example while its item scrolls, allocates nothing.
+     */
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public long getPhaseOffset() {
+        return phaseOffset;
+    }
+
+    public void setPhaseOffset(long phaseOffset) {
+        this.phaseOffset = phaseOffset;
+    }
+
+    public int getIndicatorType() {
+        return indicatorType;
+    }
+
+    public void setIndicatorType(int indicatorType) {
+        this.indicatorType = indicatorType;
+        this.changed = true;
+    }
+
+    public int getIndicatorShape() {
+        return indicatorShape;
+    }
+
+    public void setIndicatorShape(int indicatorShape) {
+        this.indicatorShape = indicatorShape;
+        this.changed = true;
+    }
+
+    public int getIndicatorCount() {
+        return indicatorCount;
+    }
+
+    public void setIndicatorCount(int indicatorCount) {
+        this.indicatorCount = indicatorCount;
+        this.changed = true;
+    }
+
+    public int getIndicatorColor() {
+        return indicatorColor;
+    }
+
+    public void setIndicatorColor(int indicatorColor) {
+        this.indicatorColor = indicatorColor;
+        this.changed = true;
+    }
+
+    public int getIndicatorStrokeColor() {
+        return indicatorStrokeColor;
+    }
+
+    public void setIndicatorStrokeColor(int indicatorStrokeColor) {
+        this.indicatorStrokeColor = indicatorStrokeColor;
+        this.changed = true;
+    }
+
+    public boolean isShowBorderStroke() {
+        return showBorderStroke;
+    }
+
+    public void setShowBorderStroke(boolean showBorderStroke) {
+        this.showBorderStroke = showBorderStroke;
+        this.changed = true;
+    }
+
+    public boolean isUseAnalyticClip() {
+        return useAnalyticClip;
+    }
+
+    public void setUseAnalyticClip(boolean useAnalyticClip) {
+        this.useAnalyticClip = useAnalyticClip;
+        this.changed = true;
+    }
+
+    public int getIndicatorRepeats() {
+        return indicatorRepeats;
+    }
+
+    public void setIndicatorRepeats(int indicatorRepeats) {
+        this.indicatorRepeats = indicatorRepeats;
+    }
+
+    public int getIndicatorRepeatMode() {
+        return indicatorRepeatMode;
+    }
+
+    public void setIndicatorRepeatMode(int indicatorRepeatMode) {
+        this.indicatorRepeatMode = indicatorRepeatMode;
+    }
+
+    public long getIndicatorDuration() {
+        return indicatorDuration;
+    }
+
+    public void setIndicatorDuration(long indicatorDuration) {
+        this.indicatorDuration = indicatorDuration;
+    }
+
+    public float getIndicatorMinOpacity() {
+        return indicatorMinOpacity;
+    }
+
+    public void setIndicatorMinOpacity(float indicatorMinOpacity) {
+        this.indicatorMinOpacity = indicatorMinOpacity;
+        this.changed = true;
+    }
+
+    public float getIndicatorMaxOpacity() {
+        return indicatorMaxOpacity;
+    }
+
+    public void setIndicatorMaxOpacity(float indicatorMaxOpacity) {
+        this.indicatorMaxOpacity = indicatorMaxOpacity;
+        this.changed = true;
+    }
+
+    public float getIndicatorClipRadius() {
+        return indicatorClipRadius;
+    }
+
+    public void setIndicatorClipRadius(float indicatorClipRadius) {
+        this.indicatorClipRadius = indicatorClipRadius;
+        this.changed = true;
+    }
+
+    public float getIndicatorMinRadius() {
+        return indicatorMinRadius;
+    }
+
+    public void setIndicatorMinRadius(float indicatorMinRadius) {
+        this.indicatorMinRadius = indicatorMinRadius;
+        this.changed = true;
+    }
+
+    public float getIndicatorMaxRadius() {
+        return indicatorMaxRadius;
+    }
+
+    public void setIndicatorMaxRadius(float indicatorMaxRadius) {
+        this.indicatorMaxRadius = indicatorMaxRadius;
+        this.changed = true;
+    }
+
+    public float getIndicatorMinWidth() {
+        return indicatorMinWidth;
+    }
+
+    public void setIndicatorMinWidth(float indicatorMinWidth) {
+        this.indicatorMinWidth = indicatorMinWidth;
+        this.changed = true;
+    }
+
+    public float getIndicatorMinHeight() {
+        return indicatorMinHeight;
+    }
+
+    public void setIndicatorMinHeight(float indicatorMinHeight) {
+        this.indicatorMinHeight = indicatorMinHeight;
+        this.changed = true;
+    }
+
+    public float getIndicatorMaxWidth() {
+        return indicatorMaxWidth;
+    }
+
+    public void setIndicatorMaxWidth(float indicatorMaxWidth) {
+        this.indicatorMaxWidth = indicatorMaxWidth;
+        this.changed = true;
+    }
+
+    public float getIndicatorMaxHeight() {
+        return indicatorMaxHeight;
+    }
+
+    public void setIndicatorMaxHeight(float indicatorMaxHeight) {
+        this.indicatorMaxHeight = indicatorMaxHeight;
+        this.changed = true;
+    }
+
+    public float getIndicatorCornerRadius() {
+        return indicatorCornerRadius;
+    }
+
+    public void setIndicatorCornerRadius(float indicatorCornerRadius) {
+        this.indicatorCornerRadius = indicatorCornerRadius;
+        this.changed = true;
+    }
+
+    public float getIndicatorStrokeWidth() {
+        return indicatorStrokeWidth;
+    }
+
+    public void setIndicatorStrokeWidth(float indicatorStrokeWidth) {
+        this.indicatorStrokeWidth = indicatorStrokeWidth;
+        this.changed = true;
+    }
+}
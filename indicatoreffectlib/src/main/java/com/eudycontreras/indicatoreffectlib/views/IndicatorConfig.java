@@ -0,0 +1,476 @@
+package com.eudycontreras.indicatoreffectlib.views;
+
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author Eudy Contreras
+ * @version 1.0
+ * @since 2018-03-31
+ */
+public final class IndicatorConfig implements RingSpec {
+
+    private final int type;
+    private final int shapeType;
+
+    private final int color;
+    private final int strokeColor;
+    private final int innerOutlineColor;
+    private final int colorStart;
+    private final int colorEnd;
+
+    private final boolean showBorderStroke;
+    private final boolean showInnerOutline;
+    private final boolean useColorInterpolation;
+    private final boolean useAnalyticClip;
+    private final boolean useSpriteCache;
+
+    private final float x;
+    private final float y;
+
+    private final float centerX;
+    private final float centerY;
+
+    private final float minWidth;
+    private final float minHeight;
+
+    private final float maxWidth;
+    private final float maxHeight;
+
+    private final float minRadius;
+    private final float maxRadius;
+
+    private final float minOpacity;
+    private final float maxOpacity;
+
+    private final float clipRadius;
+    private final float cornerRadius;
+    private final float strokeWidth;
+    private final float innerOutlineWidth;
+
+    private final ColorLookupTable colorTable;
+
+    private IndicatorConfig(Builder builder) {
+        this.type = builder.type;
+        this.shapeType = builder.shapeType;
+        this.color = builder.color;
+        this.strokeColor = builder.strokeColor;
+        this.innerOutlineColor = builder.innerOutlineColor;
+        this.colorStart = builder.colorStart;
+        this.colorEnd = builder.colorEnd;
+        this.showBorderStroke = builder.showBorderStroke;
+        this.showInnerOutline = builder.showInnerOutline;
+        this.useColorInterpolation = builder.useColorInterpolation;
+        this.useAnalyticClip = builder.useAnalyticClip;
+        this.useSpriteCache = builder.useSpriteCache;
+        this.x = builder.x;
+        this.y = builder.y;
+        this.centerX = builder.centerX;
+        this.centerY = builder.centerY;
+        this.minWidth = builder.minWidth;
+        this.minHeight = builder.minHeight;
+        this.maxWidth = builder.maxWidth;
+        this.maxHeight = builder.maxHeight;
+        this.minRadius = builder.minRadius;
+        this.maxRadius = builder.maxRadius;
+        this.minOpacity = builder.minOpacity;
+        this.maxOpacity = builder.maxOpacity;
+        this.clipRadius = builder.clipRadius;
+        this.cornerRadius = builder.cornerRadius;
+        this.strokeWidth = builder.strokeWidth;
+        this.innerOutlineWidth = builder.innerOutlineWidth;
+        this.colorTable = builder.colorTable;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getShapeType() {
+        return shapeType;
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public int getStrokeColor() {
+        return strokeColor;
+    }
+
+    public int getInnerOutlineColor() {
+        return innerOutlineColor;
+    }
+
+    public int getColorStart() {
+        return colorStart;
+    }
+
+    public int getColorEnd() {
+        return colorEnd;
+    }
+
+    public boolean isShowBorderStroke() {
+        return showBorderStroke;
+    }
+
+    public boolean isShowInnerOutline() {
+        return showInnerOutline;
+    }
+
+    public boolean isUseColorInterpolation() {
+        return useColorInterpolation;
+    }
+
+    public boolean isUseAnalyticClip() {
+        return useAnalyticClip;
+    }
+
+    public boolean isUseSpriteCache() {
+        return useSpriteCache;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+
+    public float getMinWidth() {
+        return minWidth;
+    }
+
+    public float getMinHeight() {
+        return minHeight;
+    }
+
+    public float getMaxWidth() {
+        return maxWidth;
+    }
+
+    public float getMaxHeight() {
+        return maxHeight;
+    }
+
+    public float getMinRadius() {
+        return minRadius;
+    }
+
+    public float getMaxRadius() {
+        return maxRadius;
+    }
+
+    public float getMinOpacity() {
+        return minOpacity;
+    }
+
+    public float getMaxOpacity() {
+        return maxOpacity;
+    }
+
+    public float getClipRadius() {
+        return clipRadius;
+    }
+
+    public float getCornerRadius() {
+        return cornerRadius;
+    }
+
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    public float getInnerOutlineWidth() {
+        return innerOutlineWidth;
+    }
+
+    public ColorLookupTable getColorTable() {
+        return colorTable;
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+
+        if (!(other instanceof IndicatorConfig))
+            return false;
+
+        IndicatorConfig config = (IndicatorConfig) other;
+
+        return type == config.type
+                && shapeType == config.shapeType
+                && color == config.color
+                && strokeColor == config.strokeColor
+                && innerOutlineColor == config.innerOutlineColor
+                && colorStart == config.colorStart
+                && colorEnd == config.colorEnd
+                && showBorderStroke == config.showBorderStroke
+                && showInnerOutline == config.showInnerOutline
+                && useColorInterpolation == config.useColorInterpolation
+                && useAnalyticClip == config.useAnalyticClip
+                && useSpriteCache == config.useSpriteCache
+                && Float.compare(x, config.x) == 0
+                && Float.compare(y, config.y) == 0
+                && Float.compare(centerX, config.centerX) == 0
+                && Float.compare(centerY, config.centerY) == 0
+                && Float.compare(minWidth, config.minWidth) == 0
+                && Float.compare(minHeight, config.minHeight) == 0
+                && Float.compare(maxWidth, config.maxWidth) == 0
+                && Float.compare(maxHeight, config.maxHeight) == 0
+                && Float.compare(minRadius, config.minRadius) == 0
+                && Float.compare(maxRadius, config.maxRadius) == 0
+                && Float.compare(minOpacity, config.minOpacity) == 0
+                && Float.compare(maxOpacity, config.maxOpacity) == 0
+                && Float.compare(clipRadius, config.clipRadius) == 0
+                && Float.compare(cornerRadius, config.cornerRadius) == 0
+                && Float.compare(strokeWidth, config.strokeWidth) == 0
+                && Float.compare(innerOutlineWidth, config.innerOutlineWidth) == 0
+                && colorTable == config.colorTable;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type;
+        result = 31 * result + shapeType;
+        result = 31 * result + color;
+        result = 31 * result + strokeColor;
+        result = 31 * result + innerOutlineColor;
+        result = 31 * result + colorStart;
+        result = 31 * result + colorEnd;
+        result = 31 * result + (showBorderStroke ? 1 : 0);
+        result = 31 * result + (showInnerOutline ? 1 : 0);
+        result = 31 * result + (useColorInterpolation ? 1 : 0);
+        result = 31 * result + (useAnalyticClip ? 1 : 0);
+        result = 31 * result + (useSpriteCache ? 1 : 0);
+        result = 31 * result + Float.floatToIntBits(centerX);
+        result = 31 * result + Float.floatToIntBits(centerY);
+        result = 31 * result + Float.floatToIntBits(minRadius);
+        result = 31 * result + Float.floatToIntBits(maxRadius);
+        result = 31 * result + Float.floatToIntBits(minWidth);
+        result = 31 * result + Float.floatToIntBits(maxWidth);
+        return result;
+    }
+
+    public static final class Builder {
+
+        private int type = IndicatorView.INDICATOR_TYPE_FILLED;
+        private int shapeType = IndicatorView.INDICATOR_SHAPE_CIRCLE;
+
+        private int color = 0xFFFFFFFF;
+        private int strokeColor = 0xFFFFFFFF;
+        private int innerOutlineColor;
+        private int colorStart = 0xFFFFFFFF;
+        private int colorEnd = 0xFFFFFFFF;
+
+        private boolean showBorderStroke = false;
+        private boolean showInnerOutline = false;
+        private boolean useColorInterpolation = false;
+        private boolean useAnalyticClip = false;
+        private boolean useSpriteCache = false;
+
+        private float x;
+        private float y;
+
+        private float centerX;
+        private float centerY;
+
+        private float minWidth;
+        private float minHeight;
+
+        private float maxWidth;
+        private float maxHeight;
+
+        private float minRadius;
+        private float maxRadius;
+
+        private float minOpacity = 0f;
+        private float maxOpacity = 1f;
+
+        private float clipRadius;
+        private float cornerRadius;
+        private float strokeWidth;
+        private float innerOutlineWidth;
+
+        private ColorLookupTable colorTable;
+
+        public Builder() { }
+
+        public Builder(IndicatorConfig config) {
+            this.type = config.type;
+            this.shapeType = config.shapeType;
+            this.color = config.color;
+            this.strokeColor = config.strokeColor;
+            this.innerOutlineColor = config.innerOutlineColor;
+            this.colorStart = config.colorStart;
+            this.colorEnd = config.colorEnd;
+            this.showBorderStroke = config.showBorderStroke;
+            this.showInnerOutline = config.showInnerOutline;
+            this.useColorInterpolation = config.useColorInterpolation;
+            this.useAnalyticClip = config.useAnalyticClip;
+            this.useSpriteCache = config.useSpriteCache;
+            this.x = config.x;
+            this.y = config.y;
+            this.centerX = config.centerX;
+            this.centerY = config.centerY;
+            this.minWidth = config.minWidth;
+            this.minHeight = config.minHeight;
+            this.maxWidth = config.maxWidth;
+            this.maxHeight = config.maxHeight;
+            this.minRadius = config.minRadius;
+            this.maxRadius = config.maxRadius;
+            this.minOpacity = config.minOpacity;
+            this.maxOpacity = config.maxOpacity;
+            this.clipRadius = config.clipRadius;
+            this.cornerRadius = config.cornerRadius;
+            this.strokeWidth = config.strokeWidth;
+            this.innerOutlineWidth = config.innerOutlineWidth;
+            this.colorTable = config.colorTable;
+        }
+
+        public Builder setType(int type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder setShapeType(int shapeType) {
+            this.shapeType = shapeType;
+            return this;
+        }
+
+        public Builder setColor(int color) {
+            this.color = color;
+            return this;
+        }
+
+        public Builder setStrokeColor(int strokeColor) {
+            this.strokeColor = strokeColor;
+            return this;
+        }
+
+        public Builder setInnerOutlineColor(int innerOutlineColor) {
+            this.innerOutlineColor = innerOutlineColor;
+            return this;
+        }
+
+        public Builder setColorStart(int colorStart) {
+            this.colorStart = colorStart;
+            return this;
+        }
+
+        public Builder setColorEnd(int colorEnd) {
+            this.colorEnd = colorEnd;
+            return this;
+        }
+
+        public Builder setShowBorderStroke(boolean showBorderStroke) {
+            this.showBorderStroke = showBorderStroke;
+            return this;
+        }
+
+        public Builder setShowInnerOutline(boolean showInnerOutline) {
+            this.showInnerOutline = showInnerOutline;
+            return this;
+        }
+
+        public Builder setUseColorInterpolation(boolean useColorInterpolation) {
+            this.useColorInterpolation = useColorInterpolation;
+            return this;
+        }
+
+        public Builder setUseAnalyticClip(boolean useAnalyticClip) {
+            this.useAnalyticClip = useAnalyticClip;
+            return this;
+        }
+
+        public Builder setPosition(float x, float y) {
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        public Builder setCenter(float centerX, float centerY) {
+            this.centerX = centerX;
+            this.centerY = centerY;
+            return this;
+        }
+
+        public Builder setMinSize(float minWidth, float minHeight) {
+            this.minWidth = minWidth;
+            this.minHeight = minHeight;
+            return this;
+        }
+
+        public Builder setMaxSize(float maxWidth, float maxHeight) {
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            return this;
+        }
+
+        public Builder setRadius(float minRadius, float maxRadius) {
+            this.minRadius = minRadius;
+            this.maxRadius = maxRadius;
+            return this;
+        }
+
+        public Builder setOpacity(float minOpacity, float maxOpacity) {
+            this.minOpacity = minOpacity;
+            this.maxOpacity = maxOpacity;
+            return this;
+        }
+
+        public Builder setClipRadius(float clipRadius) {
+            this.clipRadius = clipRadius;
+            return this;
+        }
+
+        public Builder setCornerRadius(float cornerRadius) {
+            this.cornerRadius = cornerRadius;
+            return this;
+        }
+
+        public Builder setStrokeWidth(float strokeWidth) {
+            this.strokeWidth = strokeWidth;
+            return this;
+        }
+
+        public Builder setInnerOutlineWidth(float innerOutlineWidth) {
+            this.innerOutlineWidth = innerOutlineWidth;
+            return this;
+        }
+
+        public Builder setColorTable(ColorLookupTable colorTable) {
+            this.colorTable = colorTable;
+            return this;
+        }
+
+        public Builder setUseSpriteCache(boolean useSpriteCache) {
+            this.useSpriteCache = useSpriteCache;
+            return this;
+        }
+
+        public IndicatorConfig build() {
+            return new IndicatorConfig(this);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.eudycontreras.indicatoreffectlib.views;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.LongSparseArray;
+import android.view.View;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import com.eudycontreras.indicatoreffectlib.animation.IndicatorClock;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author Eudy Contreras
+ * @version 1.0
+ * @since 2018-03-31
+ */
+public class IndicatorItemDecoration extends RecyclerView.ItemDecoration {
+
+    public static final int DEFAULT_MAX_INDICATORS = 32;
+
+    private final int maxIndicators;
+
+    private final IndicatorView template;
+    private final LongSparseArray<IndicatorState> states = new LongSparseArray<>();
+
+    private final Paint paint = new Paint();
+    private final IndicatorClock clock = new IndicatorClock(this::onClockFrame);
+
+    private final RectF dirtyBounds = new RectF();
+    private final RectF lastDirtyBounds = new RectF();
+    private final RectF indicatorBounds = new RectF();
+    private final Rect dirtyRect = new Rect();
+
+    private final View.OnAttachStateChangeListener attachListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View view) {
+            view.invalidate();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View view) {
+            clock.stop();
+        }
+    };
+
+    private Interpolator interpolator = new LinearInterpolator();
+    private RecyclerView recyclerView;
+
+    private long lastFrameTime = 0;
+    private long drawPass = 0;
+
+    public IndicatorItemDecoration(IndicatorView template) {
+        this(template, DEFAULT_MAX_INDICATORS);
+    }
+
+    /**
+     * Creates a decoration which draws indicators over the items of a recycler view. Every
+     * indicator starts out with the configuration of the given template view, which does
+     * not need to be attached anywhere.
+     *
+     * @param template the view whose configuration new indicators copy
+     * @param maxIndicators the amount of indicator states kept before the least recently
+     *                      shown one is dropped
+     */
+    public IndicatorItemDecoration(IndicatorView template, int maxIndicators) {
+        this.template = template;
+        this.maxIndicators = maxIndicators;
+        this.paint.setAntiAlias(true);
+    }
+
+    public void attachToRecyclerView(RecyclerView recyclerView) {
+        if (this.recyclerView == recyclerView)
+            return;
+
+        detachFromRecyclerView();
+
+        this.recyclerView = recyclerView;
+
+        if (recyclerView != null) {
+            recyclerView.addItemDecoration(this);
+            recyclerView.addOnAttachStateChangeListener(attachListener);
+        }
+    }
+
+    /**
+     * Removes the decoration from its recycler view. The clock is also stopped whenever the
+     * recycler view is detached from its window, and restarted by the next draw pass once
+     * it is attached again.
+     */
+    public void detachFromRecyclerView() {
+        clock.stop();
+
+        if (recyclerView != null) {
+            recyclerView.removeOnAttachStateChangeListener(attachListener);
+            recyclerView.removeItemDecoration(this);
+            recyclerView = null;
+        }
+    }
+
+    /**
+     * Shows an indicator over the item with the given key, which is the stable id of the
+     * item when the adapter has stable ids and its adapter position otherwise.
+     *
+     * @param key the stable id or adapter position of the item
+     * @return the anchor of the indicator, which may be customized further
+     */
+    public IndicatorAnchor showIndicator(long key) {
+        IndicatorState state = states.get(key);
+
+        if (state == null) {
+            if (states.size() >= maxIndicators) {
+                evictLeastRecentlyShown();
+            }
+
+            IndicatorAnchor anchor = new IndicatorAnchor(0, 0);
+            template.copyConfigTo(anchor);
+            anchor.attach(paint);
+
+            state = new IndicatorState(anchor);
+            states.put(key, state);
+        }
+
+        state.lastShown = drawPass;
+
+        if (recyclerView != null) {
+            recyclerView.invalidate();
+        }
+        return state.anchor;
+    }
+
+    public void hideIndicator(long key) {
+        IndicatorState state = states.get(key);
+
+        if (state != null) {
+            state.anchor.detach();
+            states.remove(key);
+
+            if (recyclerView != null) {
+                recyclerView.invalidate();
+            }
+        }
+    }
+
+    public void hideAllIndicators() {
+        for (int i = 0; i < states.size(); i++) {
+            states.valueAt(i).anchor.detach();
+        }
+        states.clear();
+        clock.stop();
+
+        if (recyclerView != null) {
+            recyclerView.invalidate();
+        }
+    }
+
+    public boolean isIndicatorShown(long key) {
+        return states.get(key) != null;
+    }
+
+    public void setInterpolator(Interpolator interpolator) {
+        this.interpolator = interpolator;
+    }
+
+    private void evictLeastRecentlyShown() {
+        int index = 0;
+
+        for (int i = 1; i < states.size(); i++) {
+            if (states.valueAt(i).lastShown < states.valueAt(index).lastShown) {
+                index = i;
+            }
+        }
+
+        states.valueAt(index).anchor.detach();
+        states.removeAt(index);
+    }
+
+    private long getKey(RecyclerView parent, View child) {
+        RecyclerView.ViewHolder holder = parent.getChildViewHolder(child);
+
+        if (holder == null)
+            return RecyclerView.NO_POSITION;
+
+        RecyclerView.Adapter<?> adapter = parent.getAdapter();
+
+        if (adapter != null && adapter.hasStableIds())
+            return holder.getItemId();
+
+        return holder.getAdapterPosition();
+    }
+
+    /**
+     * Advances only the indicators whose items were laid out on the last draw pass,
+     * so the rings of items scrolled off screen keep their phase until they return.
+     * Only the area the visible rings cover now or covered on the previous frame is
+     * invalidated.
+     */
+    private void onClockFrame(long playTime) {
+        long delta = playTime - lastFrameTime;
+        lastFrameTime = playTime;
+
+        boolean visible = false;
+
+        dirtyBounds.setEmpty();
+
+        for (int i = 0; i < states.size(); i++) {
+            IndicatorState state = states.valueAt(i);
+
+            if (state.visible) {
+                state.playTime += delta;
+                state.anchor.update(state.playTime, interpolator);
+                state.anchor.unionDirtyBounds(dirtyBounds, indicatorBounds);
+                visible = true;
+            }
+        }
+
+        if (!visible || recyclerView == null) {
+            clock.stop();
+            return;
+        }
+
+        invalidateIndicators();
+    }
+
+    @SuppressWarnings("deprecation")
+    private void invalidateIndicators() {
+        indicatorBounds.set(dirtyBounds);
+        indicatorBounds.union(lastDirtyBounds);
+        lastDirtyBounds.set(dirtyBounds);
+
+        if (indicatorBounds.isEmpty())
+            return;
+
+        indicatorBounds.roundOut(dirtyRect);
+        recyclerView.invalidate(dirtyRect);
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        if (states.size() == 0)
+            return;
+
+        drawPass++;
+
+        for (int i = 0; i < states.size(); i++) {
+            states.valueAt(i).visible = false;
+        }
+
+        boolean visible = false;
+
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            long key = getKey(parent, child);
+
+            if (key == RecyclerView.NO_POSITION)
+                continue;
+
+            IndicatorState indicator = states.get(key);
+
+            if (indicator == null)
+                continue;
+
+            float x = child.getLeft() + child.getTranslationX() + (child.getWidth() / 2f);
+            float y = child.getTop() + child.getTranslationY() + (child.getHeight() / 2f);
+
+            indicator.visible = true;
+            indicator.lastShown = drawPass;
+            indicator.anchor.setPosition(x, y);
+            indicator.anchor.update(indicator.playTime, interpolator);
+            indicator.anchor.draw(canvas);
+
+            visible = true;
+        }
+
+        if (visible && !clock.isRunning()) {
+            lastFrameTime = 0;
+            clock.start(0);
+        }
+    }
+
+    private static final class IndicatorState {
+
+        private final IndicatorAnchor anchor;
+
+        private long playTime = 0;
+        private long lastShown = 0;
+
+        private boolean visible = false;
+
+        IndicatorState(IndicatorAnchor anchor) {
+            this.anchor = anchor;
+        }
+    }
+}
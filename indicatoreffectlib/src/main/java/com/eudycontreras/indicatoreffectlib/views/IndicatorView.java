@@ -7,20 +7,31 @@ import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.os.Build;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
+import android.view.ViewTreeObserver;
+import android.view.animation.AnimationUtils;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
 import android.view.animation.LinearInterpolator;
 import androidx.annotation.NonNull;
-import com.eudycontreras.indicatoreffectlib.Bounds;
-import com.eudycontreras.indicatoreffectlib.Property;
+import com.eudycontreras.indicatorcore.Bounds;
+import com.eudycontreras.indicatorcore.color.ColorLookupTable;
+import com.eudycontreras.indicatorcore.geometry.RingSpec;
+import com.eudycontreras.indicatorcore.quality.QualityGovernor;
+import com.eudycontreras.indicatorcore.timing.RingTiming;
 import com.eudycontreras.indicatoreffectlib.R;
+import com.eudycontreras.indicatoreffectlib.animation.BakedInterpolator;
+import com.eudycontreras.indicatoreffectlib.animation.IndicatorClock;
+import com.eudycontreras.indicatoreffectlib.animation.PowerStateMonitor;
+import com.eudycontreras.indicatoreffectlib.metrics.IndicatorMetrics;
+import com.eudycontreras.indicatoreffectlib.particles.IndicatorPool;
 import com.eudycontreras.indicatoreffectlib.particles.ParticleIndicator;
-import com.eudycontreras.indicatoreffectlib.utilities.ColorUtility;
 import com.eudycontreras.indicatoreffectlib.utilities.DimensionUtility;
 
 import java.util.ArrayList;
@@ -43,8 +54,8 @@ public class IndicatorView extends View {
         void setUpBehaviour(View view, int wrappedWidth, int wrappedHeight);
     }
 
-    public static final int INDICATOR_SHAPE_CIRCLE = 0;
-    public static final int INDICATOR_SHAPE_RECTANGLE = 1;
+    public static final int INDICATOR_SHAPE_CIRCLE = RingSpec.SHAPE_CIRCLE;
+    public static final int INDICATOR_SHAPE_RECTANGLE = RingSpec.SHAPE_RECTANGLE;
 
     public static final int INDICATOR_TYPE_OUTLINE = 0;
     public static final int INDICATOR_TYPE_FILLED = 1;
@@ -55,6 +66,21 @@ public class IndicatorView extends View {
     public static final int REPEAT_MODE_RESTART = ObjectAnimator.RESTART;
     public static final int REPEAT_MODE_REVERSE = ObjectAnimator.REVERSE;
 
+    public static final int COLOR_INTERPOLATION_RGB = ColorLookupTable.INTERPOLATION_RGB;
+    public static final int COLOR_INTERPOLATION_LINEAR = ColorLookupTable.INTERPOLATION_LINEAR;
+    public static final int COLOR_INTERPOLATION_PERCEPTUAL = ColorLookupTable.INTERPOLATION_PERCEPTUAL;
+
+    public static final int PAUSE_REQUESTED = 1;
+    public static final int PAUSE_DETACHED = 1 << 1;
+    public static final int PAUSE_WINDOW_HIDDEN = 1 << 2;
+    public static final int PAUSE_VIEW_HIDDEN = 1 << 3;
+    public static final int PAUSE_TARGET_HIDDEN = 1 << 4;
+    public static final int PAUSE_TRANSPARENT = 1 << 5;
+    public static final int PAUSE_POWER_STATE = 1 << 6;
+
+    public static final int FRAME_RATE_DISPLAY = 0;
+    public static final int DEFAULT_LOW_POWER_FRAME_RATE = 20;
+
     private int backgroundColor = Color.TRANSPARENT;
 
     private int indicatorShape = INDICATOR_SHAPE_CIRCLE;
@@ -67,6 +93,8 @@ public class IndicatorView extends View {
     private int indicatorRepeats;
     private int indicatorRepeatMode;
     private int indicatorInnerOutlineColor;
+    private int colorInterpolationMode = COLOR_INTERPOLATION_RGB;
+    private int colorTableSize = ColorLookupTable.DEFAULT_SIZE;
 
     private int usableWidth;
     private int usableHeight;
@@ -111,27 +139,96 @@ public class IndicatorView extends View {
     private boolean animationRunning = false;
     private boolean autoStartIndicator = false;
     private boolean cleanUpAfter = false;
+    private boolean useSingleClock = false;
+
+    private String phaseGroup;
+    private boolean useSpriteCache = false;
+    private boolean animatorsChanged = false;
+    private boolean useBakedInterpolator = false;
+    private boolean useAnalyticClip = false;
+    private boolean followTarget = false;
+    private boolean indicatorsChanged = true;
+    private boolean clockDrivenIndicators = false;
+    private boolean autoPause = true;
+    private boolean followPowerState = true;
+    private boolean suspended = false;
+
+    private int pauseReasons = PAUSE_DETACHED;
+
+    private int targetFrameRate = FRAME_RATE_DISPLAY;
+    private int lowPowerFrameRate = DEFAULT_LOW_POWER_FRAME_RATE;
 
     private ParticleIndicator[] indicators;
     private ArrayList<Animator> animators;
+    private ArrayList<IndicatorAnchor> anchors;
 
     private Runnable onEnd;
     private Runnable onStart;
     private Interpolator indicatorInterpolator;
+    private Interpolator clockInterpolator;
     private IndicatorLayoutBehaviour behaviour;
     private ViewDrawListener listener;
+    private IndicatorMetrics metrics;
+    private QualityGovernor qualityGovernor;
 
     private AnimatorSet animatorSet;
+    private ValueAnimator revealAnimator;
+    private ValueAnimator concealAnimator;
+    private IndicatorClock clock;
+    private PowerStateMonitor powerMonitor;
+    private PowerStateMonitor.StateListener powerListener;
     private ViewGroup parent;
     private Bounds bounds;
     private Paint paint;
+    private Paint anchorPaint;
     private View target;
 
-    private ColorUtility.SoulColor color;
-    private ColorUtility.SoulColor strokeColor;
-    private ColorUtility.SoulColor colorStart;
-    private ColorUtility.SoulColor colorEnd;
-    private ColorUtility.SoulColor colorInnerOutline;
+    private IndicatorConfig config;
+
+    private long clockOffset;
+    private long clockPlayTime;
+
+    private float clockDurationScale = 1f;
+
+    private boolean powerSubscribed = false;
+
+    private int ringStride = 1;
+
+    private long lastFrameTime = -1;
+    private long frameCost;
+    private long updateBudget = 0;
+    private boolean updateFrame = true;
+
+    private ColorLookupTable colorTable;
+
+    private final Rect dirtyRect = new Rect();
+    private final RectF dirtyBounds = new RectF();
+    private final RectF lastDirtyBounds = new RectF();
+    private final RectF indicatorBounds = new RectF();
+
+    private static final int TARGET_STATE_SIZE = 10;
+
+    private final int[] targetLocation = new int[2];
+    private final int[] viewLocation = new int[2];
+    private final int[] baseTargetLocation = new int[2];
+    private final int[] baseViewLocation = new int[2];
+
+    private float baseCenterX;
+    private float baseCenterY;
+    private float baseIndicatorX;
+    private float baseIndicatorY;
+    private float baseTargetWidth;
+    private float baseTargetHeight;
+
+    private View[] targetChain;
+    private float[] targetChainState;
+
+    private ViewTreeObserver followObserver;
+    private final ViewTreeObserver.OnPreDrawListener followListener = this::onTargetPreDraw;
+
+    private final Rect targetVisibleRect = new Rect();
+    private final ViewTreeObserver.OnScrollChangedListener targetScrollListener = this::checkTargetVisibility;
+    private final ViewTreeObserver.OnGlobalLayoutListener targetLayoutListener = this::checkTargetVisibility;
 
     public IndicatorView(Context context) {
         super(context);
@@ -183,16 +280,23 @@ public class IndicatorView extends View {
         paint = new Paint();
         paint.setAntiAlias(true);
 
-        color = new ColorUtility.SoulColor();
-
         indicatorInterpolator = new LinearInterpolator();
+        clockInterpolator = indicatorInterpolator;
 
         animatorSet = new AnimatorSet();
         animators = new ArrayList<>();
+        anchors = new ArrayList<>();
+
+        anchorPaint = new Paint();
+        anchorPaint.setAntiAlias(true);
+
+        clock = new IndicatorClock(this::onClockFrame);
+        powerMonitor = PowerStateMonitor.getInstance(getContext());
+        powerListener = this::onPowerStateChanged;
 
         parent = parentView;
 
-        initializeIndicator();
+        setAlpha(0);
     }
 
     public void setUpAttributes(TypedArray typedArray) {
@@ -222,128 +326,765 @@ public class IndicatorView extends View {
             indicatorMinHeight = typedArray.getDimension(R.styleable.IndicatorView_iv_indicatorMinHeight, 0f);
             indicatorMaxWidth = typedArray.getDimension(R.styleable.IndicatorView_iv_indicatorMaxWidth, DimensionUtility.convertDpToPixel(getContext(), 60));
             indicatorMaxHeight = typedArray.getDimension(R.styleable.IndicatorView_iv_indicatorMaxHeight, DimensionUtility.convertDpToPixel(getContext(), 30));
-            initializeIndicator();
+            useSingleClock = typedArray.getBoolean(R.styleable.IndicatorView_iv_useSingleClock, false);
+            useSpriteCache = typedArray.getBoolean(R.styleable.IndicatorView_iv_useSpriteCache, false);
+            colorInterpolationMode = typedArray.getInt(R.styleable.IndicatorView_iv_colorInterpolationMode, COLOR_INTERPOLATION_RGB);
+            useBakedInterpolator = typedArray.getBoolean(R.styleable.IndicatorView_iv_useBakedInterpolator, false);
+            useAnalyticClip = typedArray.getBoolean(R.styleable.IndicatorView_iv_useAnalyticClip, false);
+            setAdaptiveQuality(typedArray.getBoolean(R.styleable.IndicatorView_iv_adaptiveQuality, false));
+            autoPause = typedArray.getBoolean(R.styleable.IndicatorView_iv_autoPause, true);
+            phaseGroup = typedArray.getString(R.styleable.IndicatorView_iv_phaseGroup);
+            clock.setPhaseGroup(phaseGroup);
+            targetFrameRate = typedArray.getInt(R.styleable.IndicatorView_iv_targetFrameRate, FRAME_RATE_DISPLAY);
+            followPowerState = typedArray.getBoolean(R.styleable.IndicatorView_iv_followPowerState, true);
         }
     }
 
+    /**
+     * Builds the rings and, unless clock driven, their animators from the current
+     * configuration. Construction and attribute parsing only record configuration,
+     * so this runs lazily on the first start or the first draw instead of on every
+     * inflation.
+     */
     private void initializeIndicator() {
         setAlpha(0);
 
-        indicatorDelay = (int) ((double) indicatorDuration / (double) indicatorCount);
-        indicators = new ParticleIndicator[indicatorCount];
+        releaseIndicators();
+
+        if (indicators == null || indicators.length != indicatorCount) {
+            indicators = new ParticleIndicator[indicatorCount];
+        }
 
         for (Animator animator : animators) {
             animator.cancel();
         }
 
-        animators.clear();
-        color.setColor(indicatorColor);
+        int animatorCount = isClockDriven() ? 0 : indicatorCount;
+
+        while (animators.size() > animatorCount) {
+            animators.remove(animators.size() - 1);
+            animatorsChanged = true;
+        }
+
+        IndicatorConfig config = getIndicatorConfig();
+
+        for (int i = 0; i < indicators.length; i++) {
+            indicators[i] = obtainIndicator(config);
+
+            if (isClockDriven())
+                continue;
+
+            if (i < animators.size())
+                continue;
+
+            final int index = i;
+            final ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
+
+            animator.addUpdateListener(animation -> {
+                if (!isUpdateFrame())
+                    return;
+
+                updateIndicator(index, (float) animation.getAnimatedValue());
+                invalidateIndicators();
+            });
+            animators.add(animator);
+            animatorsChanged = true;
+
+            if (metrics != null) {
+                metrics.count(IndicatorMetrics.METRIC_ALLOCATIONS, 1);
+            }
+        }
+
+        applyTiming(indicatorDuration);
+
+        indicatorsChanged = false;
+        clockDrivenIndicators = isClockDriven();
+    }
+
+    private boolean isRebuildNeeded() {
+        if (indicatorsChanged || indicators == null || clockDrivenIndicators != isClockDriven())
+            return true;
+
+        for (ParticleIndicator indicator : indicators) {
+            if (indicator == null)
+                return true;
+        }
+        return false;
+    }
+
+    private void rewindIndicators() {
+        for (ParticleIndicator indicator : indicators) {
+            indicator.rewind();
+        }
+    }
+
+    /**
+     * Applies the current duration, stagger and repeat settings to the ring animators.
+     * While running, the play time of the clock driven rings and of every running
+     * animator is scaled by the change in duration so each ring keeps its phase.
+     *
+     * @param previousDuration the duration the rings were playing with
+     */
+    private void applyTiming(long previousDuration) {
+        indicatorDelay = indicatorCount > 0 ? indicatorDuration / indicatorCount : 0;
+
+        double scale = previousDuration > 0 ? (double) indicatorDuration / (double) previousDuration : 1d;
+
+        if ((clock.isRunning() || clock.isPaused()) && scale != 1d) {
+            clockOffset = (long) ((clockPlayTime + clockOffset) * scale) - clockPlayTime;
+        }
+
+        for (int i = 0; i < animators.size(); i++) {
+            ValueAnimator animator = (ValueAnimator) animators.get(i);
+            long playTime = animator.isRunning() ? animator.getCurrentPlayTime() : 0;
+
+            animator.setStartDelay(i * indicatorDelay);
+            animator.setRepeatCount(indicatorRepeats);
+            animator.setRepeatMode(indicatorRepeatMode);
+            animator.setDuration(indicatorDuration);
+
+            if (playTime > 0 && scale != 1d) {
+                animator.setCurrentPlayTime((long) (playTime * scale));
+            }
+        }
+    }
+
+    private ParticleIndicator obtainIndicator(IndicatorConfig config) {
+        if (metrics != null && IndicatorPool.getSize() == 0) {
+            metrics.count(IndicatorMetrics.METRIC_ALLOCATIONS, 1);
+        }
+
+        ParticleIndicator indicator = IndicatorPool.obtain();
+        indicator.setConfig(config);
+        indicator.getPaint().setAntiAlias(isRingAntiAlias());
+        indicator.setVisible(true);
+        indicator.setAlwaysAlive(true);
+
+        if (bounds != null) {
+            indicator.setBounds(bounds);
+        }
+        return indicator;
+    }
+
+    /**
+     * Hands the rings back to the shared pool so other indicator views can reuse
+     * them. The slots are left empty, so the next start rebuilds the rings, or
+     * {@link #restoreIndicators()} refills them for an animation which is still running.
+     */
+    private void releaseIndicators() {
+        if (indicators == null)
+            return;
+
+        IndicatorPool.releaseAll(indicators);
+    }
+
+    /**
+     * Refills the ring slots emptied while detached. The running animation poses the
+     * new rings on its next frame, so it continues from the phase it was suspended at.
+     */
+    private void restoreIndicators() {
+        if (indicators == null)
+            return;
+
+        IndicatorConfig config = getIndicatorConfig();
+
+        for (int i = 0; i < indicators.length; i++) {
+            if (indicators[i] == null) {
+                indicators[i] = obtainIndicator(config);
+            }
+        }
+    }
+
+    private void invalidateConfig() {
+        config = null;
+    }
+
+    /**
+     * Returns the snapshot of the current ripple configuration. All the rings of
+     * this view share the same snapshot, which is only rebuilt after one of the
+     * properties it holds has changed.
+     *
+     * @return the current configuration
+     */
+    public IndicatorConfig getIndicatorConfig() {
+        if (config != null)
+            return config;
+
+        ColorLookupTable table = null;
 
         if (useColorInterpolation) {
-            if (colorStart == null || colorEnd == null) {
-                colorStart = new ColorUtility.SoulColor();
-                colorEnd = new ColorUtility.SoulColor();
+            if (colorTable == null || !colorTable.matches(indicatorColorStart, indicatorColorEnd, colorInterpolationMode, colorTableSize)) {
+                colorTable = new ColorLookupTable(colorTableSize);
+                colorTable.bake(indicatorColorStart, indicatorColorEnd, colorInterpolationMode);
+
+                if (metrics != null) {
+                    metrics.count(IndicatorMetrics.METRIC_ALLOCATIONS, 1);
+                }
             }
-            colorStart.setColor(indicatorColorStart);
-            colorEnd.setColor(indicatorColorEnd);
-        } else {
-            colorStart = null;
-            colorEnd = null;
+            table = colorTable;
+        }
+
+        config = new IndicatorConfig.Builder()
+                .setType(indicatorType)
+                .setShapeType(indicatorShape)
+                .setColor(indicatorColor)
+                .setStrokeColor(indicatorStrokeColor)
+                .setInnerOutlineColor(indicatorInnerOutlineColor)
+                .setColorStart(indicatorColorStart)
+                .setColorEnd(indicatorColorEnd)
+                .setShowBorderStroke(showBorderStroke && !isDegraded(QualityGovernor.DEGRADE_DECORATIONS))
+                .setShowInnerOutline(showInnerOutline && !isDegraded(QualityGovernor.DEGRADE_DECORATIONS))
+                .setUseColorInterpolation(useColorInterpolation)
+                .setUseAnalyticClip(useAnalyticClip)
+                .setPosition(indicatorX + offsetX, indicatorY + offsetY)
+                .setCenter(centerX + offsetX, centerY + offsetY)
+                .setMinSize(indicatorMinWidth, indicatorMinHeight)
+                .setMaxSize(indicatorMaxWidth, indicatorMaxHeight)
+                .setRadius(indicatorMinRadius, indicatorMaxRadius)
+                .setOpacity(indicatorMinOpacity, indicatorMaxOpacity)
+                .setClipRadius(indicatorClipRadius)
+                .setCornerRadius(indicatorCornerRadius)
+                .setStrokeWidth(indicatorStrokeWidth)
+                .setInnerOutlineWidth(innerOutLineWidth)
+                .setColorTable(table)
+                .setUseSpriteCache(useSpriteCache)
+                .build();
+
+        if (metrics != null) {
+            metrics.count(IndicatorMetrics.METRIC_ALLOCATIONS, 1);
+        }
+
+        return config;
+    }
+
+    /**
+     * Applies every property held by the given configuration to this view. The
+     * offsets are reset since the position of the configuration already includes them.
+     *
+     * @param config the configuration to apply
+     */
+    public void setIndicatorConfig(IndicatorConfig config) {
+        indicatorType = config.getType();
+        indicatorShape = config.getShapeType();
+        indicatorColor = config.getColor();
+        indicatorStrokeColor = config.getStrokeColor();
+        indicatorInnerOutlineColor = config.getInnerOutlineColor();
+        indicatorColorStart = config.getColorStart();
+        indicatorColorEnd = config.getColorEnd();
+        showBorderStroke = config.isShowBorderStroke();
+        showInnerOutline = config.isShowInnerOutline();
+        useColorInterpolation = config.isUseColorInterpolation();
+        useAnalyticClip = config.isUseAnalyticClip();
+        offsetX = 0f;
+        offsetY = 0f;
+        indicatorX = config.getX();
+        indicatorY = config.getY();
+        centerX = config.getCenterX();
+        centerY = config.getCenterY();
+        indicatorMinWidth = config.getMinWidth();
+        indicatorMinHeight = config.getMinHeight();
+        indicatorMaxWidth = config.getMaxWidth();
+        indicatorMaxHeight = config.getMaxHeight();
+        indicatorMinRadius = config.getMinRadius();
+        indicatorMaxRadius = config.getMaxRadius();
+        indicatorMinOpacity = config.getMinOpacity();
+        indicatorMaxOpacity = config.getMaxOpacity();
+        indicatorClipRadius = config.getClipRadius();
+        indicatorCornerRadius = config.getCornerRadius();
+        indicatorStrokeWidth = config.getStrokeWidth();
+        innerOutLineWidth = config.getInnerOutlineWidth();
+        useSpriteCache = config.isUseSpriteCache();
+
+        this.config = config;
+    }
+
+    private void updateIndicator(int index, float time) {
+        if (indicators[index] == null || !isRingActive(index))
+            return;
+
+        long start = beginCost();
+
+        if (metrics != null) {
+            metrics.beginUpdate();
+        }
+
+        indicators[index].setConfig(getIndicatorConfig());
+        indicators[index].update(indicatorDuration, time);
+
+        if (metrics != null) {
+            metrics.endUpdate();
         }
 
-        if (showBorderStroke) {
-            if (strokeColor == null) {
-                strokeColor = new ColorUtility.SoulColor();
+        endCost(start);
+
+        if (!indicators[index].isAlive()) {
+            IndicatorPool.release(indicators[index]);
+            indicators[index] = null;
+        }
+    }
+
+    /**
+     * Single clock counterpart of the per ring animators. Every ring derives its
+     * phase from the shared play time using the same {@code index * indicatorDelay}
+     * stagger, repeat count and repeat mode the animators would use, after which
+     * the view is invalidated once for the whole frame.
+     */
+    private void onClockFrame(long playTime) {
+        boolean finished = true;
+
+        playTime = (long) (playTime / clockDurationScale);
+
+        clockPlayTime = playTime;
+
+        if (!isUpdateFrame())
+            return;
+
+        if (animators.isEmpty()) {
+            for (int i = 0; i < indicators.length; i++) {
+                long ringTime = playTime + clockOffset - (i * indicatorDelay);
+
+                if (ringTime < 0) {
+                    finished = false;
+                    continue;
+                }
+
+                if (!RingTiming.isFinished(ringTime, indicatorDuration, indicatorRepeats)) {
+                    finished = false;
+                }
+
+                float fraction = RingTiming.getFraction(ringTime, indicatorDuration, indicatorRepeats, indicatorRepeatMode);
+
+                updateIndicator(i, clockInterpolator.getInterpolation(fraction));
             }
-            strokeColor.setColor(indicatorStrokeColor);
-        } else {
-            strokeColor = null;
         }
 
-        if (showInnerOutline) {
-            if (colorInnerOutline == null) {
-                colorInnerOutline = new ColorUtility.SoulColor();
+        long start = beginCost();
+
+        if (metrics != null) {
+            metrics.beginUpdate();
+        }
+
+        for (int i = 0; i < anchors.size(); i++) {
+            if (!anchors.get(i).update(playTime, clockInterpolator)) {
+                finished = false;
             }
+        }
 
-            colorInnerOutline.setColor(indicatorInnerOutlineColor);
+        if (metrics != null) {
+            metrics.endUpdate();
         }
 
+        endCost(start);
+
+        invalidateIndicators();
+
+        if (finished) {
+            clock.stop();
+        }
+    }
+
+    /**
+     * Invalidates the union of the area covered by the live ripples and the area
+     * they covered on the previous invalidation, so shrinking or restarting ripples
+     * are cleared. Nothing is invalidated when neither area holds anything.
+     */
+    @SuppressWarnings("deprecation")
+    private void invalidateIndicators() {
+        dirtyBounds.setEmpty();
+
         for (int i = 0; i < indicators.length; i++) {
-            ParticleIndicator indicator = new ParticleIndicator();
-            indicator.setPaint(new Paint());
-            indicator.setShapeType(indicatorShape);
-            indicator.setCornerRadius(indicatorCornerRadius);
-            indicator.setMinRadius(indicatorMinRadius);
-            indicator.setMaxRadius(indicatorMaxRadius);
-            indicator.setMinOpacity(indicatorMinOpacity);
-            indicator.setMaxOpacity(indicatorMaxOpacity);
-            indicator.setClipRadius(indicatorClipRadius);
-            indicator.setStrokeWidth(indicatorStrokeWidth);
-            indicator.setMinWidth(indicatorMinWidth);
-            indicator.setMinHeight(indicatorMinHeight);
-            indicator.setMaxWidth(indicatorMaxWidth);
-            indicator.setMaxHeight(indicatorMaxHeight);
-            indicator.setColor(color);
-            indicator.setStrokeColor(strokeColor);
-            indicator.setInnerOutlineColor(colorInnerOutline);
-            indicator.setInnerOutlineWidth(innerOutLineWidth);
-            indicator.setColorStart(colorStart);
-            indicator.setColorEnd(colorEnd);
-            indicator.setType(indicatorType);
-            indicator.setX(indicatorX + offsetX);
-            indicator.setY(indicatorY + offsetY);
-            indicator.setCenterX(centerX + offsetX);
-            indicator.setCenterY(centerY + offsetY);
-            indicator.setVisible(true);
-            indicator.setAlwaysAlive(true);
-            indicator.init();
-
-            indicators[i] = indicator;
+            ParticleIndicator indicator = indicators[i];
 
-            final int index = i;
-            final long delay = (long) (index * indicatorDelay);
-            final ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
+            if (indicator == null || !isRingActive(i))
+                continue;
 
-            animator.setStartDelay(delay);
-            animator.setRepeatCount(indicatorRepeats);
-            animator.setRepeatMode(indicatorRepeatMode);
-            animator.setDuration(indicatorDuration);
-            animator.addUpdateListener(animation -> {
-                if (indicators[index] == null)
-                    return;
+            indicator.getDirtyBounds(indicatorBounds);
+            dirtyBounds.union(indicatorBounds);
+        }
+
+        for (int i = 0; i < anchors.size(); i++) {
+            anchors.get(i).unionDirtyBounds(dirtyBounds, indicatorBounds);
+        }
+
+        indicatorBounds.set(dirtyBounds);
+        indicatorBounds.union(lastDirtyBounds);
+        lastDirtyBounds.set(dirtyBounds);
+
+        if (indicatorBounds.isEmpty())
+            return;
+
+        indicatorBounds.roundOut(dirtyRect);
+        invalidate(dirtyRect);
+
+        if (metrics != null) {
+            metrics.count(IndicatorMetrics.METRIC_INVALIDATIONS, 1);
+        }
+    }
+
+    private boolean isClockDriven() {
+        return useSingleClock || phaseGroup != null || !anchors.isEmpty();
+    }
+
+    private boolean isRingActive(int index) {
+        return index % ringStride == 0;
+    }
+
+    private boolean isDegraded(int degradation) {
+        return qualityGovernor != null && qualityGovernor.isDegraded(degradation);
+    }
+
+    /**
+     * Decides once per animation frame whether the rings are updated and invalidated on
+     * that frame. When adaptive quality is on the time since the previous frame is handed
+     * to the quality governor. Frames are skipped to honor the target frame rate, the low
+     * power frame rate and a degraded update rate. The elapsed time is accumulated so a
+     * rate which does not divide the display rate is still met on average. Skipped frames
+     * keep their phase since rings derive it from the play time.
+     */
+    private boolean isUpdateFrame() {
+        if (getUpdateInterval() <= 0)
+            return true;
+
+        long frameTime = AnimationUtils.currentAnimationTimeMillis();
+
+        if (frameTime == lastFrameTime)
+            return updateFrame;
+
+        long frameDelta = lastFrameTime >= 0 ? frameTime - lastFrameTime : 0;
+
+        lastFrameTime = frameTime;
+
+        long interval = getUpdateInterval();
+
+        if (interval <= 0 || frameDelta <= 0) {
+            updateBudget = 0;
+            updateFrame = true;
+            return true;
+        }
+
+        updateBudget = Math.min(updateBudget + frameDelta, interval * 2);
+        updateFrame = updateBudget >= interval - (frameDelta / 2);
+
+        if (updateFrame) {
+            updateBudget -= interval;
+        }
+        return updateFrame;
+    }
+
+    /**
+     * Returns the minimum amount of milliseconds between two ring updates, or zero
+     * when the rings are updated on every frame.
+     */
+    private long getUpdateInterval() {
+        int frameRate = targetFrameRate;
+
+        if (powerSubscribed && powerMonitor.getState() == PowerStateMonitor.STATE_LOW_POWER && lowPowerFrameRate > 0) {
+            frameRate = frameRate > 0 ? Math.min(frameRate, lowPowerFrameRate) : lowPowerFrameRate;
+        }
+
+        long interval = frameRate > 0 ? 1000L / frameRate : 0;
+
+        if (isDegraded(QualityGovernor.DEGRADE_UPDATE_RATE)) {
+            interval = Math.max(interval, qualityGovernor.getDegradedUpdateInterval());
+        }
+        return interval;
+    }
+
+    private void onPowerStateChanged(int state) {
+        setClockDurationScale(powerMonitor.getDurationScale());
+        resetFrameTimes();
+        setPauseReason(PAUSE_POWER_STATE, state == PowerStateMonitor.STATE_STATIC);
+    }
+
+    /**
+     * Subscribes to the shared power state monitor while this view follows the power
+     * state, is attached and has a running animation, and unsubscribes otherwise, so
+     * idle and detached indicators keep nothing registered with the system.
+     */
+    private void updatePowerSubscription() {
+        boolean subscribe = followPowerState && animationRunning && (pauseReasons & PAUSE_DETACHED) == 0;
+
+        if (subscribe == powerSubscribed)
+            return;
 
-                indicators[index].setShapeType(indicatorShape);
-                indicators[index].setColor(color);
-                indicators[index].setColorStart(colorStart);
-                indicators[index].setColorEnd(colorEnd);
-                indicators[index].setStrokeColor(strokeColor);
-                indicators[index].setInnerOutlineColor(colorInnerOutline);
-                indicators[index].setCornerRadius(indicatorCornerRadius);
-                indicators[index].setMinOpacity(indicatorMinOpacity);
-                indicators[index].setMaxOpacity(indicatorMaxOpacity);
-                indicators[index].setMinRadius(indicatorMinRadius);
-                indicators[index].setMaxRadius(indicatorMaxRadius);
-                indicators[index].setClipRadius(indicatorClipRadius);
-                indicators[index].setStrokeWidth(indicatorStrokeWidth);
-                indicators[index].setInnerOutlineWidth(innerOutLineWidth);
-                indicators[index].setCenterX(centerX + offsetX);
-                indicators[index].setCenterY(centerY + offsetY);
-                indicators[index].setX(indicatorX + offsetX);
-                indicators[index].setY(indicatorY + offsetY);
-                indicators[index].setMinWidth(indicatorMinWidth);
-                indicators[index].setMinHeight(indicatorMinHeight);
-                indicators[index].setMaxWidth(indicatorMaxWidth);
-                indicators[index].setMaxHeight(indicatorMaxHeight);
-                indicators[index].update(indicatorDuration, (float) animation.getAnimatedValue());
-
-                if (!indicators[index].isAlive()) {
-                    indicators[index] = null;
+        powerSubscribed = subscribe;
+
+        if (subscribe) {
+            powerMonitor.subscribe(powerListener);
+            onPowerStateChanged(powerMonitor.getState());
+        } else {
+            powerMonitor.unsubscribe(powerListener);
+            resetFrameTimes();
+            setPauseReason(PAUSE_POWER_STATE, false);
+        }
+    }
+
+    /**
+     * Stretches the play time of the clock driven rings by the global animator duration
+     * scale the way ValueAnimator stretches its duration. While running, the clock offset
+     * is adjusted so each ring keeps its phase across a change in scale. A scale of zero
+     * is left to the power state, which holds the rings at a static frame.
+     *
+     * @param durationScale the global animator duration scale
+     */
+    private void setClockDurationScale(float durationScale) {
+        if (durationScale <= 0f || durationScale == clockDurationScale)
+            return;
+
+        if (clock.isRunning() || clock.isPaused()) {
+            long scaledTime = (long) (clockPlayTime * clockDurationScale / durationScale);
+            clockOffset += clockPlayTime - scaledTime;
+            clockPlayTime = scaledTime;
+        }
+
+        clockDurationScale = durationScale;
+    }
+
+    /**
+     * Poses every ring at an evenly staggered phase of its animation and draws that pose,
+     * which is what is shown while animations are reduced to a static frame.
+     */
+    private void drawStaticFrame() {
+        if (indicators == null)
+            return;
+
+        for (int i = 0; i < indicators.length; i++) {
+            float fraction = (indicators.length - i - 0.5f) / indicators.length;
+
+            updateIndicator(i, indicatorInterpolator.getInterpolation(fraction));
+        }
+
+        invalidateIndicators();
+        invalidate();
+    }
+
+    /**
+     * Applies the degradations of the current quality level. Rings which are shed
+     * keep animating in the background so they come back in phase.
+     */
+    private void applyQuality() {
+        boolean antiAlias = !isDegraded(QualityGovernor.DEGRADE_ANTI_ALIAS);
+        boolean ringAntiAlias = isRingAntiAlias();
+
+        ringStride = isDegraded(QualityGovernor.DEGRADE_RING_COUNT) ? qualityGovernor.getRingStride() : 1;
+
+        paint.setAntiAlias(antiAlias);
+        anchorPaint.setAntiAlias(antiAlias);
+
+        if (indicators != null) {
+            for (ParticleIndicator indicator : indicators) {
+                if (indicator != null) {
+                    indicator.getPaint().setAntiAlias(ringAntiAlias);
                 }
-                invalidate();
-            });
+            }
+        }
 
-            animators.add(animator);
+        invalidateConfig();
+        invalidate();
+    }
+
+    /**
+     * Rings are drawn without anti-aliasing, like their plain paints always were,
+     * unless adaptive quality is on, in which case the governor ladder decides.
+     */
+    private boolean isRingAntiAlias() {
+        return qualityGovernor != null && !isDegraded(QualityGovernor.DEGRADE_ANTI_ALIAS);
+    }
+
+    private long beginCost() {
+        return qualityGovernor != null ? System.nanoTime() : 0;
+    }
+
+    private void endCost(long start) {
+        if (qualityGovernor != null) {
+            frameCost += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Hands the update and draw time this view spent on the frame to the governor.
+     * Only the cost of the indicator itself is counted, so a janky screen does not
+     * make an inexpensive indicator shed its rings.
+     */
+    private void endFrameCost() {
+        if (qualityGovernor == null)
+            return;
+
+        long cost = frameCost;
+
+        frameCost = 0;
+
+        if (qualityGovernor.onFrame(cost / 1000L)) {
+            applyQuality();
+        }
+    }
+
+    private void resetFrameTimes() {
+        lastFrameTime = -1;
+        frameCost = 0;
+        updateBudget = 0;
+        updateFrame = true;
+
+        if (qualityGovernor != null) {
+            qualityGovernor.resetSamples();
+        }
+    }
+
+    /**
+     * Creates an anchor at the given position which starts out with the current
+     * configuration of this view and adds it to this view.
+     *
+     * @param x the horizontal center of the anchor within this view
+     * @param y the vertical center of the anchor within this view
+     * @return the added anchor
+     */
+    public IndicatorAnchor createAnchor(float x, float y) {
+        IndicatorAnchor anchor = new IndicatorAnchor(x, y);
+
+        copyConfigTo(anchor);
+        addAnchor(anchor);
+        return anchor;
+    }
+
+    void copyConfigTo(IndicatorAnchor anchor) {
+        anchor.setIndicatorType(indicatorType);
+        anchor.setIndicatorShape(indicatorShape);
+        anchor.setIndicatorCount(indicatorCount);
+        anchor.setIndicatorDuration(indicatorDuration);
+        anchor.setIndicatorRepeats(indicatorRepeats);
+        anchor.setIndicatorRepeatMode(indicatorRepeatMode);
+        anchor.setIndicatorColor(indicatorColor);
+        anchor.setIndicatorStrokeColor(indicatorStrokeColor);
+        anchor.setShowBorderStroke(showBorderStroke);
+        anchor.setUseAnalyticClip(useAnalyticClip);
+        anchor.setIndicatorStrokeWidth(indicatorStrokeWidth);
+        anchor.setIndicatorMinOpacity(indicatorMinOpacity);
+        anchor.setIndicatorMaxOpacity(indicatorMaxOpacity);
+        anchor.setIndicatorMinRadius(indicatorMinRadius);
+        anchor.setIndicatorMaxRadius(indicatorMaxRadius);
+        anchor.setIndicatorClipRadius(indicatorClipRadius);
+        anchor.setIndicatorCornerRadius(indicatorCornerRadius);
+        anchor.setIndicatorMinWidth(indicatorMinWidth);
+        anchor.setIndicatorMinHeight(indicatorMinHeight);
+        anchor.setIndicatorMaxWidth(indicatorMaxWidth);
+        anchor.setIndicatorMaxHeight(indicatorMaxHeight);
+    }
+
+    /**
+     * Adds an anchor whose ripples are advanced by this view's clock and drawn in
+     * this view's draw pass. No views are added to the hierarchy.
+     *
+     * @param anchor the anchor to host
+     */
+    public void addAnchor(IndicatorAnchor anchor) {
+        if (anchors.contains(anchor))
+            return;
+
+        anchor.attach(anchorPaint);
+        anchors.add(anchor);
+
+        if (animationRunning && !clock.isRunning() && !clock.isPaused()) {
+            clock.start(0);
+
+            if (suspended) {
+                clock.pause();
+            }
+        }
+    }
+
+    public void removeAnchor(IndicatorAnchor anchor) {
+        if (anchors.remove(anchor)) {
+            anchor.detach();
+            invalidate();
+        }
+    }
+
+    public void clearAnchors() {
+        for (int i = 0; i < anchors.size(); i++) {
+            anchors.get(i).detach();
         }
+        anchors.clear();
+        invalidate();
+    }
+
+    public int getAnchorCount() {
+        return anchors.size();
+    }
+
+    private void cancelIndicatorAnimation() {
+        animatorSet.cancel();
+        clock.stop();
+        suspended = false;
+    }
+
+    /**
+     * Suspends the running animation while any pause reason holds and resumes it once
+     * none do. The rings are neither rebuilt nor rewound, so the animation continues
+     * from the phase it was suspended at. Only {@link #PAUSE_REQUESTED},
+     * {@link #PAUSE_DETACHED} and {@link #PAUSE_POWER_STATE} are honored while auto
+     * pause is off, so a detached view never stays registered with the shared ticker.
+     * A suspension caused by the power state leaves a static frame on screen.
+     */
+    private void updateSuspension() {
+        int reasons = autoPause ? pauseReasons : pauseReasons & (PAUSE_REQUESTED | PAUSE_DETACHED | PAUSE_POWER_STATE);
+        reasons = followPowerState ? reasons : reasons & ~PAUSE_POWER_STATE;
+        boolean suspend = animationRunning && reasons != 0;
+
+        if (suspend == suspended)
+            return;
+
+        suspended = suspend;
+
+        if (suspend) {
+            clock.pause();
+            animatorSet.pause();
+
+            if ((reasons & PAUSE_POWER_STATE) != 0) {
+                drawStaticFrame();
+            }
+        } else {
+            resetFrameTimes();
+            clock.resume();
+            animatorSet.resume();
+            invalidate();
+        }
+    }
+
+    private void setPauseReason(int reason, boolean paused) {
+        int reasons = paused ? pauseReasons | reason : pauseReasons & ~reason;
+
+        if (reasons == pauseReasons)
+            return;
+
+        pauseReasons = reasons;
+        updateSuspension();
+    }
+
+    private void checkTargetVisibility() {
+        boolean hidden = target != null && (!target.isShown() || !target.getGlobalVisibleRect(targetVisibleRect));
+
+        setPauseReason(PAUSE_TARGET_HIDDEN, hidden);
+    }
+
+    /**
+     * Pauses the indicator animation until {@link #resumeIndicatorAnimation()} is called,
+     * for example when the lifecycle owner hosting this view is stopped. The animation
+     * later continues from the same phase.
+     */
+    public void pauseIndicatorAnimation() {
+        setPauseReason(PAUSE_REQUESTED, true);
+    }
+
+    public void resumeIndicatorAnimation() {
+        setPauseReason(PAUSE_REQUESTED, false);
+    }
+
+    public boolean isIndicatorAnimationSuspended() {
+        return suspended;
+    }
+
+    public int getPauseReasons() {
+        return pauseReasons;
     }
 
     public void startIndicatorAnimation() {
@@ -354,20 +1095,71 @@ public class IndicatorView extends View {
         startIndicatorAnimation(indicatorDelay, indicatorInterpolator);
     }
 
+    /**
+     * Starts the indicator animation. The rings and animators of a previous run are
+     * reused unless the ring count or the driving clock changed in the meantime. When
+     * the animation is already running, or still concealing, it keeps its phase and
+     * only the interpolator is swapped.
+     */
     public void startIndicatorAnimation(int indicatorDelay, Interpolator interpolator) {
-        animatorSet.cancel();
-        animatorSet = null;
+        if (useBakedInterpolator) {
+            interpolator = BakedInterpolator.of(interpolator);
+        }
 
-        initializeIndicator();
+        boolean concealing = concealAnimator != null && concealAnimator.isStarted();
 
-        animatorSet = new AnimatorSet();
-        animatorSet.setInterpolator(interpolator);
-        animatorSet.playTogether(animators);
-        animatorSet.setStartDelay(indicatorDelay);
-        animatorSet.start();
+        if (concealing) {
+            concealAnimator.cancel();
+        }
+
+        if (animationRunning && !isRebuildNeeded()) {
+            if (isClockDriven()) {
+                clockInterpolator = interpolator;
+            } else {
+                for (Animator animator : animators) {
+                    animator.setInterpolator(interpolator);
+                }
+            }
+
+            if (concealing) {
+                show(revealDuration);
+            }
+            return;
+        }
+
+        cancelIndicatorAnimation();
+        resetFrameTimes();
+
+        if (isRebuildNeeded()) {
+            initializeIndicator();
+        } else {
+            rewindIndicators();
+            setAlpha(0);
+        }
+
+        if (isClockDriven()) {
+            float durationScale = powerMonitor.getDurationScale();
+
+            clockOffset = 0;
+            clockPlayTime = 0;
+            clockDurationScale = durationScale > 0f ? durationScale : 1f;
+            clockInterpolator = interpolator;
+            clock.start(indicatorDelay);
+        } else {
+            if (animatorsChanged) {
+                animatorSet = new AnimatorSet();
+                animatorSet.playTogether(animators);
+                animatorsChanged = false;
+            }
+            animatorSet.setInterpolator(interpolator);
+            animatorSet.setStartDelay(indicatorDelay);
+            animatorSet.start();
+        }
         animationRunning = true;
 
         show(revealDuration);
+        updatePowerSubscription();
+        updateSuspension();
     }
 
     public void stopIndicatorAnimation() {
@@ -389,40 +1181,80 @@ public class IndicatorView extends View {
             return;
         }
 
-        ValueAnimator showAnimator = ValueAnimator.ofFloat(0f, 1f);
-        showAnimator.addUpdateListener(animation -> setAlpha((float) animation.getAnimatedValue()));
-        showAnimator.setDuration(duration);
-        showAnimator.setInterpolator(new DecelerateInterpolator());
-        showAnimator.start();
+        if (revealAnimator == null) {
+            revealAnimator = ValueAnimator.ofFloat(0f, 1f);
+            revealAnimator.addUpdateListener(animation -> setAlpha((float) animation.getAnimatedValue()));
+            revealAnimator.setInterpolator(new DecelerateInterpolator());
+        }
+
+        revealAnimator.cancel();
+        revealAnimator.setFloatValues(getAlpha(), 1f);
+        revealAnimator.setDuration(duration);
+        revealAnimator.start();
+
+        setPauseReason(PAUSE_TRANSPARENT, false);
     }
 
     private void dismiss(long duration) {
+        if (revealAnimator != null) {
+            revealAnimator.cancel();
+        }
+
         if (duration == 0) {
-            animatorSet.cancel();
-            animationRunning = false;
-            if (onEnd != null) {
-                onEnd.run();
+            if (concealAnimator != null) {
+                concealAnimator.cancel();
             }
+            onConcealed();
             return;
         }
 
-        ValueAnimator showAnimator = ValueAnimator.ofFloat(1f, 0f);
-        showAnimator.addUpdateListener(animation -> setAlpha((float) animation.getAnimatedValue()));
-        showAnimator.setDuration(duration);
-        showAnimator.setInterpolator(new LinearInterpolator());
-        showAnimator.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                super.onAnimationEnd(animation);
-                animatorSet.cancel();
-                animationRunning = false;
-                if (onEnd != null) {
-                    onEnd.run();
+        if (concealAnimator == null) {
+            concealAnimator = ValueAnimator.ofFloat(1f, 0f);
+            concealAnimator.addUpdateListener(animation -> setAlpha((float) animation.getAnimatedValue()));
+            concealAnimator.setInterpolator(new LinearInterpolator());
+            concealAnimator.addListener(new AnimatorListenerAdapter() {
+                private boolean cancelled;
+
+                @Override
+                public void onAnimationStart(Animator animation) {
+                    super.onAnimationStart(animation);
+                    cancelled = false;
                 }
-            }
-        });
 
-        showAnimator.start();
+                @Override
+                public void onAnimationCancel(Animator animation) {
+                    super.onAnimationCancel(animation);
+                    cancelled = true;
+                }
+
+                @Override
+                public void onAnimationEnd(Animator animation) {
+                    super.onAnimationEnd(animation);
+                    if (!cancelled) {
+                        onConcealed();
+                    }
+                }
+            });
+        }
+
+        if (concealAnimator.isStarted())
+            return;
+
+        concealAnimator.setFloatValues(getAlpha(), 0f);
+        concealAnimator.setDuration(duration);
+        concealAnimator.start();
+    }
+
+    private void onConcealed() {
+        cancelIndicatorAnimation();
+        animationRunning = false;
+        updatePowerSubscription();
+        if (cleanUpAfter) {
+            releaseIndicators();
+        }
+        if (onEnd != null) {
+            onEnd.run();
+        }
     }
 
     public void removeIndicator() {
@@ -432,6 +1264,7 @@ public class IndicatorView extends View {
     public void removeIndicator(long duration) {
         stopIndicatorAnimation(duration);
         parent.removeView(this);
+        releaseIndicators();
     }
 
     private void initializeValues() {
@@ -452,40 +1285,30 @@ public class IndicatorView extends View {
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
+
+        long start = beginCost();
+
+        if (metrics != null) {
+            metrics.beginDraw();
+        }
+
         canvas.drawColor(backgroundColor);
 
         if (bounds == null) {
 
             initializeValues();
 
+            if (indicators == null) {
+                initializeIndicator();
+            }
+
             for (ParticleIndicator indicator : indicators) {
                 if (indicator == null)
-                    return;
+                    continue;
 
                 indicator.setBounds(bounds);
-                indicator.setColor(color);
-                indicator.setStrokeColor(strokeColor);
-                indicator.setColorStart(colorStart);
-                indicator.setColorEnd(colorEnd);
-                indicator.setInnerOutlineColor(colorInnerOutline);
-                indicator.setCornerRadius(indicatorCornerRadius);
-                indicator.setMinOpacity(indicatorMinOpacity);
-                indicator.setMaxOpacity(indicatorMaxOpacity);
-                indicator.setMinRadius(indicatorMinRadius);
-                indicator.setMaxRadius(indicatorMaxRadius);
-                indicator.setClipRadius(indicatorClipRadius);
-                indicator.setStrokeWidth(indicatorStrokeWidth);
-                indicator.setInnerOutlineWidth(innerOutLineWidth);
-                indicator.setX(indicatorX + offsetX);
-                indicator.setY(indicatorY + offsetY);
-                indicator.setCenterX(centerX + offsetX);
-                indicator.setCenterY(centerY + offsetY);
-                indicator.setMaxWidth(indicatorMaxWidth);
-                indicator.setMaxHeight(indicatorMaxHeight);
-                indicator.setMinWidth(indicatorMinWidth);
-                indicator.setMinHeight(indicatorMinHeight);
+                indicator.setConfig(getIndicatorConfig());
                 indicator.update();
-                indicator.init();
             }
 
             if (listener != null) {
@@ -499,11 +1322,53 @@ public class IndicatorView extends View {
             invalidate();
         }
 
-        for (ParticleIndicator indicator : indicators) {
-            if (indicator != null) {
-                indicator.draw(canvas);
+        drawIndicators(canvas);
+
+        for (int i = 0; i < anchors.size(); i++) {
+            anchors.get(i).draw(canvas, metrics);
+        }
+
+        if (metrics != null) {
+            metrics.endDraw();
+            metrics.endFrame();
+        }
+
+        endCost(start);
+        endFrameCost();
+    }
+
+    /**
+     * Draws every ring inside a single save and restore, clipping the target out of
+     * the canvas once for all of them instead of once per ring.
+     */
+    private void drawIndicators(Canvas canvas) {
+        if (indicators == null)
+            return;
+
+        int count = canvas.save();
+        boolean clipped = false;
+
+        for (int i = 0; i < indicators.length; i++) {
+            ParticleIndicator indicator = indicators[i];
+
+            if (indicator == null || !isRingActive(i))
+                continue;
+
+            if (!clipped) {
+                if (indicator.clipOut(canvas) && metrics != null) {
+                    metrics.count(IndicatorMetrics.METRIC_CLIPS, 1);
+                }
+                clipped = true;
+            }
+
+            indicator.draw(canvas);
+
+            if (metrics != null) {
+                metrics.count(IndicatorMetrics.METRIC_RINGS_DRAWN, 1);
             }
         }
+
+        canvas.restoreToCount(count);
     }
 
     public void setTarget(View view) {
@@ -522,6 +1387,8 @@ public class IndicatorView extends View {
         if (target == view)
             return;
 
+        stopFollowingTarget();
+
         target = view;
 
         int width = ((ViewGroup) view.getParent()).getWidth();
@@ -561,44 +1428,275 @@ public class IndicatorView extends View {
         indicatorMinRadius = indicatorClipRadius;
         indicatorMaxRadius = (indicatorMinRadius * radiusRatio);
 
+        invalidateConfig();
+
         setElevation(view.getElevation() - 1f);
         setTranslationZ(view.getTranslationZ() - 1f);
+
+        if (followTarget) {
+            stopFollowingTarget();
+            startFollowingTarget();
+        }
+
+        checkTargetVisibility();
     }
 
     private int getCalculatedOffsetY(ViewGroup parent) {
-        Property<Integer> property = new Property<>(parent.getTop());
+        int offset = parent.getTop();
+        ViewParent ancestor = parent.getParent();
 
-        getCalculatedOffsetY(parent.getParent(), property);
-
-        return property.getValue();
+        while (ancestor instanceof ViewGroup) {
+            offset += ((ViewGroup) ancestor).getTop();
+            ancestor = ancestor.getParent();
+        }
+        return offset;
     }
 
     private int getCalculatedOffsetX(ViewGroup parent) {
-        Property<Integer> property = new Property<>(parent.getLeft());
+        int offset = parent.getLeft();
+        ViewParent ancestor = parent.getParent();
+
+        while (ancestor instanceof ViewGroup) {
+            offset += ((ViewGroup) ancestor).getLeft();
+            ancestor = ancestor.getParent();
+        }
+        return offset;
+    }
+
+    /**
+     * Registers a pre draw listener which moves the indicator along with its target.
+     * The position computed by setTarget is used as the base and only shifted by how
+     * much the target has moved relative to this view since then.
+     */
+    private void startFollowingTarget() {
+        if (target == null || followObserver != null)
+            return;
+
+        cacheTargetChain();
+
+        target.getLocationInWindow(baseTargetLocation);
+        getLocationInWindow(baseViewLocation);
+
+        baseCenterX = centerX;
+        baseCenterY = centerY;
+        baseIndicatorX = indicatorX;
+        baseIndicatorY = indicatorY;
+        baseTargetWidth = target.getWidth();
+        baseTargetHeight = target.getHeight();
+
+        followObserver = target.getViewTreeObserver();
+        followObserver.addOnPreDrawListener(followListener);
+    }
+
+    private void stopFollowingTarget() {
+        if (followObserver == null)
+            return;
+
+        if (followObserver.isAlive()) {
+            followObserver.removeOnPreDrawListener(followListener);
+        } else if (target != null) {
+            target.getViewTreeObserver().removeOnPreDrawListener(followListener);
+        }
+
+        followObserver = null;
+        targetChain = null;
+        targetChainState = null;
+    }
+
+    private void cacheTargetChain() {
+        int length = 1;
+        ViewParent ancestor = target.getParent();
 
-        getCalculatedOffsetX(parent.getParent(), property);
+        while (ancestor instanceof View) {
+            length++;
+            ancestor = ancestor.getParent();
+        }
+
+        targetChain = new View[length];
+        targetChainState = new float[length * TARGET_STATE_SIZE];
+
+        View view = target;
+
+        for (int i = 0; i < length; i++) {
+            targetChain[i] = view;
+            storeTargetState(i);
 
-        return property.getValue();
+            if (view.getParent() instanceof View) {
+                view = (View) view.getParent();
+            }
+        }
     }
 
-    private void getCalculatedOffsetY(ViewParent parent, Property<Integer> offset) {
-        if (parent instanceof ViewGroup) {
-            ViewGroup group = (ViewGroup) parent;
-            offset.setValue(offset.getValue() + group.getTop());
-            if (group.getParent() != null) {
-                getCalculatedOffsetY(group.getParent(), offset);
+    private void storeTargetState(int index) {
+        View view = targetChain[index];
+        int offset = index * TARGET_STATE_SIZE;
+
+        targetChainState[offset] = view.getLeft();
+        targetChainState[offset + 1] = view.getTop();
+        targetChainState[offset + 2] = view.getWidth();
+        targetChainState[offset + 3] = view.getHeight();
+        targetChainState[offset + 4] = view.getTranslationX();
+        targetChainState[offset + 5] = view.getTranslationY();
+        targetChainState[offset + 6] = view.getScrollX();
+        targetChainState[offset + 7] = view.getScrollY();
+        targetChainState[offset + 8] = view.getScaleX();
+        targetChainState[offset + 9] = view.getScaleY();
+    }
+
+    private boolean hasTargetStateChanged(int index) {
+        View view = targetChain[index];
+        int offset = index * TARGET_STATE_SIZE;
+
+        return targetChainState[offset] != view.getLeft()
+                || targetChainState[offset + 1] != view.getTop()
+                || targetChainState[offset + 2] != view.getWidth()
+                || targetChainState[offset + 3] != view.getHeight()
+                || targetChainState[offset + 4] != view.getTranslationX()
+                || targetChainState[offset + 5] != view.getTranslationY()
+                || targetChainState[offset + 6] != view.getScrollX()
+                || targetChainState[offset + 7] != view.getScrollY()
+                || targetChainState[offset + 8] != view.getScaleX()
+                || targetChainState[offset + 9] != view.getScaleY();
+    }
+
+    /**
+     * Compares the cached layout and transform state of the target and its ancestors
+     * against their current values. The target position is only recomputed when some
+     * link of the chain has changed, so a still target costs a handful of reads per frame.
+     */
+    private boolean onTargetPreDraw() {
+        if (target == null || targetChain == null)
+            return true;
+
+        boolean changed = false;
+
+        for (int i = 0; i < targetChain.length; i++) {
+            if (i + 1 < targetChain.length && targetChain[i].getParent() != targetChain[i + 1]) {
+                cacheTargetChain();
+                changed = true;
+                break;
+            }
+
+            if (hasTargetStateChanged(i)) {
+                storeTargetState(i);
+                changed = true;
             }
         }
+
+        if (changed) {
+            moveToTarget();
+        }
+        return true;
     }
 
-    private void getCalculatedOffsetX(ViewParent parent, Property<Integer> offset) {
-        if (parent instanceof ViewGroup) {
-            ViewGroup group = (ViewGroup) parent;
-            offset.setValue(offset.getValue() + group.getLeft());
-            if (group.getParent() != null) {
-                getCalculatedOffsetX(group.getParent(), offset);
+    private void moveToTarget() {
+        target.getLocationInWindow(targetLocation);
+        getLocationInWindow(viewLocation);
+
+        float shiftX = (targetLocation[0] - baseTargetLocation[0]) - (viewLocation[0] - baseViewLocation[0]) + ((target.getWidth() - baseTargetWidth) / 2f);
+        float shiftY = (targetLocation[1] - baseTargetLocation[1]) - (viewLocation[1] - baseViewLocation[1]) + ((target.getHeight() - baseTargetHeight) / 2f);
+
+        centerX = baseCenterX + shiftX;
+        centerY = baseCenterY + shiftY;
+        indicatorX = baseIndicatorX + shiftX;
+        indicatorY = baseIndicatorY + shiftY;
+
+        invalidateConfig();
+
+        if (indicators != null) {
+            IndicatorConfig config = getIndicatorConfig();
+
+            for (ParticleIndicator indicator : indicators) {
+                if (indicator == null)
+                    continue;
+
+                indicator.setConfig(config);
             }
         }
+
+        invalidate();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        if (followTarget) {
+            startFollowingTarget();
+        }
+
+        ViewTreeObserver observer = getViewTreeObserver();
+        observer.addOnScrollChangedListener(targetScrollListener);
+        observer.addOnGlobalLayoutListener(targetLayoutListener);
+
+        if (animationRunning) {
+            restoreIndicators();
+        }
+
+        checkTargetVisibility();
+        setPauseReason(PAUSE_VIEW_HIDDEN, !isShown());
+        setPauseReason(PAUSE_DETACHED, false);
+        updatePowerSubscription();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        stopFollowingTarget();
+
+        ViewTreeObserver observer = getViewTreeObserver();
+        observer.removeOnScrollChangedListener(targetScrollListener);
+        observer.removeOnGlobalLayoutListener(targetLayoutListener);
+
+        setPauseReason(PAUSE_DETACHED, true);
+        releaseIndicators();
+        super.onDetachedFromWindow();
+        updatePowerSubscription();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        setPauseReason(PAUSE_WINDOW_HIDDEN, visibility != VISIBLE);
+    }
+
+    @Override
+    protected void onVisibilityChanged(@NonNull View changedView, int visibility) {
+        super.onVisibilityChanged(changedView, visibility);
+        setPauseReason(PAUSE_VIEW_HIDDEN, !isShown());
+    }
+
+    /**
+     * Pauses the animation while this view is fully transparent, unless it is
+     * being revealed.
+     */
+    @Override
+    public void setAlpha(float alpha) {
+        super.setAlpha(alpha);
+
+        setPauseReason(PAUSE_TRANSPARENT, alpha <= 0f && (revealAnimator == null || !revealAnimator.isStarted()));
+    }
+
+    public boolean isFollowTarget() {
+        return followTarget;
+    }
+
+    /**
+     * Makes the indicator move along with its target whenever the target or any of
+     * its ancestors is laid out, scrolled, translated or scaled.
+     *
+     * @param followTarget true to follow the target
+     */
+    public void setFollowTarget(boolean followTarget) {
+        if (this.followTarget == followTarget)
+            return;
+
+        this.followTarget = followTarget;
+
+        if (followTarget) {
+            startFollowingTarget();
+        } else {
+            stopFollowingTarget();
+        }
     }
 
     public float getOffsetX() {
@@ -607,6 +1705,7 @@ public class IndicatorView extends View {
 
     public void setOffsetX(float offsetX) {
         this.offsetX = offsetX;
+        invalidateConfig();
     }
 
     public float getOffsetY() {
@@ -615,6 +1714,7 @@ public class IndicatorView extends View {
 
     public void setOffsetY(float offsetY) {
         this.offsetY = offsetY;
+        invalidateConfig();
     }
 
     public int getIndicatorStrokeColor() {
@@ -623,6 +1723,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorStrokeColor(int indicatorStrokeColor) {
         this.indicatorStrokeColor = indicatorStrokeColor;
+        invalidateConfig();
     }
 
     public int getIndicatorColorStart() {
@@ -631,6 +1732,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorColorStart(int indicatorColorStart) {
         this.indicatorColorStart = indicatorColorStart;
+        invalidateConfig();
     }
 
     public int getIndicatorInnerOutlineColor() {
@@ -639,6 +1741,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorInnerOutlineColor(int indicatorInnerOutlineColor) {
         this.indicatorInnerOutlineColor = indicatorInnerOutlineColor;
+        invalidateConfig();
     }
 
     public int getIndicatorColorEnd() {
@@ -647,6 +1750,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorColorEnd(int indicatorColorEnd) {
         this.indicatorColorEnd = indicatorColorEnd;
+        invalidateConfig();
     }
 
     public boolean isAnimationRunning() {
@@ -655,6 +1759,7 @@ public class IndicatorView extends View {
 
     public void setAnimationRunning(boolean animationRunning) {
         this.animationRunning = animationRunning;
+        updatePowerSubscription();
     }
 
     public boolean isShowBorderStroke() {
@@ -663,6 +1768,7 @@ public class IndicatorView extends View {
 
     public void setShowBorderStroke(boolean showBorderStroke) {
         this.showBorderStroke = showBorderStroke;
+        invalidateConfig();
     }
 
     public boolean isShowInnerOutline() {
@@ -671,6 +1777,7 @@ public class IndicatorView extends View {
 
     public void setShowInnerOutline(boolean showInnerOutline) {
         this.showInnerOutline = showInnerOutline;
+        invalidateConfig();
     }
 
     public float getInnerOutLineWidth() {
@@ -679,6 +1786,7 @@ public class IndicatorView extends View {
 
     public void setInnerOutLineWidth(float innerOutLineWidth) {
         this.innerOutLineWidth = innerOutLineWidth;
+        invalidateConfig();
     }
 
     public long getIndicatorIntervalDelay() {
@@ -708,6 +1816,7 @@ public class IndicatorView extends View {
     public void setTarget(int centerX, int centerY) {
         this.centerX = centerX;
         this.centerY = centerY;
+        invalidateConfig();
     }
 
     public void setDrawListener(ViewDrawListener listener) {
@@ -716,10 +1825,12 @@ public class IndicatorView extends View {
 
     public void setCenterX(float centerX) {
         this.centerX = centerX;
+        invalidateConfig();
     }
 
     public void setCenterY(float centerY) {
         this.centerY = centerY;
+        invalidateConfig();
     }
 
     public float getIndicatorMinWidth() {
@@ -728,6 +1839,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMinWidth(float indicatorMinWidth) {
         this.indicatorMinWidth = indicatorMinWidth;
+        invalidateConfig();
     }
 
     public float getIndicatorMinHeight() {
@@ -736,6 +1848,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMinHeight(float indicatorMinHeight) {
         this.indicatorMinHeight = indicatorMinHeight;
+        invalidateConfig();
     }
 
     public float getIndicatorX() {
@@ -744,6 +1857,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorX(float x) {
         this.indicatorX = x;
+        invalidateConfig();
     }
 
     public float getIndicatorY() {
@@ -752,6 +1866,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorY(float y) {
         this.indicatorY = y;
+        invalidateConfig();
     }
 
     public float getIndicatorMaxWidth() {
@@ -760,6 +1875,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMaxWidth(float indicatorMaxWidth) {
         this.indicatorMaxWidth = indicatorMaxWidth;
+        invalidateConfig();
     }
 
     public float getIndicatorMaxHeight() {
@@ -768,6 +1884,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMaxHeight(float indicatorMaxHeight) {
         this.indicatorMaxHeight = indicatorMaxHeight;
+        invalidateConfig();
     }
 
     public boolean isUseColorInterpolation() {
@@ -776,6 +1893,25 @@ public class IndicatorView extends View {
 
     public void setUseColorInterpolation(boolean useColorInterpolation) {
         this.useColorInterpolation = useColorInterpolation;
+        invalidateConfig();
+    }
+
+    public int getColorInterpolationMode() {
+        return colorInterpolationMode;
+    }
+
+    public void setColorInterpolationMode(int colorInterpolationMode) {
+        this.colorInterpolationMode = colorInterpolationMode;
+        invalidateConfig();
+    }
+
+    public int getColorTableSize() {
+        return colorTableSize;
+    }
+
+    public void setColorTableSize(int colorTableSize) {
+        this.colorTableSize = colorTableSize;
+        invalidateConfig();
     }
 
     public Runnable getOnEnd() {
@@ -794,10 +1930,196 @@ public class IndicatorView extends View {
         this.onStart = onStart;
     }
 
+    public boolean isUseSingleClock() {
+        return useSingleClock;
+    }
+
+    /**
+     * Drives every ring from the frame clock shared by all indicators instead of giving
+     * each ring its own animator. Views using the shared clock are ticked together from
+     * one frame callback. Off by default.
+     *
+     * @param useSingleClock true to drive the rings from the shared frame clock
+     */
+    public void setUseSingleClock(boolean useSingleClock) {
+        if (this.useSingleClock == useSingleClock)
+            return;
+
+        this.useSingleClock = useSingleClock;
+        this.indicatorsChanged = true;
+    }
+
+    public String getPhaseGroup() {
+        return phaseGroup;
+    }
+
+    /**
+     * Makes the rings of this view pulse in sync with every other running view of
+     * the same phase group. Grouped views are driven by the shared frame clock.
+     *
+     * @param phaseGroup the name of the group, or null to keep an own phase
+     */
+    public void setPhaseGroup(String phaseGroup) {
+        if (isClockDriven() != (useSingleClock || phaseGroup != null || !anchors.isEmpty())) {
+            this.indicatorsChanged = true;
+        }
+
+        this.phaseGroup = phaseGroup;
+        this.clock.setPhaseGroup(phaseGroup);
+    }
+
+    public boolean isUseSpriteCache() {
+        return useSpriteCache;
+    }
+
+    public void setUseSpriteCache(boolean useSpriteCache) {
+        this.useSpriteCache = useSpriteCache;
+        invalidateConfig();
+    }
+
+    public boolean isUseBakedInterpolator() {
+        return useBakedInterpolator;
+    }
+
+    public void setUseBakedInterpolator(boolean useBakedInterpolator) {
+        this.useBakedInterpolator = useBakedInterpolator;
+    }
+
+    public boolean isUseAnalyticClip() {
+        return useAnalyticClip;
+    }
+
+    /**
+     * Draws circular indicator type ripples as rings between the clip radius and the
+     * ripple radius instead of clipping the target out of the canvas. Rectangular ripples
+     * are filled as a double round rect and only clip when they cannot be expressed as one.
+     *
+     * @param useAnalyticClip true to avoid path clipping where possible
+     */
+    public void setUseAnalyticClip(boolean useAnalyticClip) {
+        this.useAnalyticClip = useAnalyticClip;
+        invalidateConfig();
+    }
+
+    public IndicatorMetrics getIndicatorMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Starts recording per frame update and draw times, rings drawn, invalidations,
+     * clips and allocations into the given metrics. Each draw pass closes a frame.
+     * Passing null stops recording, which leaves only a null check on the hot paths.
+     *
+     * @param metrics the metrics to record into, or null
+     */
+    public void setIndicatorMetrics(IndicatorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isAdaptiveQuality() {
+        return qualityGovernor != null;
+    }
+
+    /**
+     * Lets this view watch the time it spends updating and drawing its rings on each
+     * frame and shed ring work while that keeps going over budget: fewer rings, no
+     * border stroke or inner outline, no anti-aliasing and a lower update rate, in the
+     * order of the governor ladder. Quality is restored step by step once the cost
+     * recovers. Rings are only anti-aliased while adaptive quality is on.
+     *
+     * @param adaptiveQuality true to adapt the quality to the frame times
+     */
+    public void setAdaptiveQuality(boolean adaptiveQuality) {
+        if (adaptiveQuality == isAdaptiveQuality())
+            return;
+
+        qualityGovernor = adaptiveQuality ? new QualityGovernor() : null;
+
+        resetFrameTimes();
+        applyQuality();
+    }
+
+    /**
+     * Returns the governor used while adaptive quality is on, through which the frame
+     * budget, thresholds, degradation ladder and transition listener are configured.
+     *
+     * @return the quality governor, or null when adaptive quality is off
+     */
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    public boolean isAutoPause() {
+        return autoPause;
+    }
+
+    public int getTargetFrameRate() {
+        return targetFrameRate;
+    }
+
+    /**
+     * Caps how many times per second the rings are updated and invalidated, for
+     * example 30 or 45. Decorative pulses rarely need the full display rate.
+     *
+     * @param targetFrameRate the frame rate cap, or {@link #FRAME_RATE_DISPLAY} for no cap
+     */
+    public void setTargetFrameRate(int targetFrameRate) {
+        this.targetFrameRate = Math.max(FRAME_RATE_DISPLAY, targetFrameRate);
+        resetFrameTimes();
+    }
+
+    public int getLowPowerFrameRate() {
+        return lowPowerFrameRate;
+    }
+
+    public void setLowPowerFrameRate(int lowPowerFrameRate) {
+        this.lowPowerFrameRate = lowPowerFrameRate;
+        resetFrameTimes();
+    }
+
+    public boolean isFollowPowerState() {
+        return followPowerState;
+    }
+
+    /**
+     * Follows the power save mode, the thermal status and the global animator duration
+     * scale of the device. The rings are updated at the low power frame rate while in
+     * power save mode or moderately throttled, and reduced to a static frame when the
+     * user turned animations off or the device is severely throttled.
+     *
+     * @param followPowerState true to follow the power state of the device
+     */
+    public void setFollowPowerState(boolean followPowerState) {
+        this.followPowerState = followPowerState;
+
+        updatePowerSubscription();
+        resetFrameTimes();
+        updateSuspension();
+    }
+
+    /**
+     * Suspends the running animation while this view is detached, its window or the
+     * view itself is hidden, its target is scrolled out of sight or it is fully
+     * transparent. The animation resumes from the same phase once none of these hold.
+     * A detached view is suspended even while auto pause is off.
+     *
+     * @param autoPause true to suspend the animation automatically
+     */
+    public void setAutoPause(boolean autoPause) {
+        this.autoPause = autoPause;
+        updateSuspension();
+    }
+
     public boolean isCleanUpAfter() {
         return cleanUpAfter;
     }
 
+    /**
+     * Hands the rings back to the shared pool as soon as the animation ends instead of
+     * when the view is detached, so the next indicator to start can reuse them.
+     *
+     * @param cleanUpAfter true to release the rings once the animation ends
+     */
     public void setCleanUpAfter(boolean cleanUpAfter) {
         this.cleanUpAfter = cleanUpAfter;
     }
@@ -808,6 +2130,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorShape(int indicatorShape) {
         this.indicatorShape = indicatorShape;
+        invalidateConfig();
     }
 
     public float getIndicatorCornerRadius() {
@@ -816,6 +2139,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorCornerRadius(float indicatorCornerRadius) {
         this.indicatorCornerRadius = indicatorCornerRadius;
+        invalidateConfig();
     }
 
     public float getIndicatorStrokeWidth() {
@@ -824,6 +2148,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorStrokeWidth(float indicatorStrokeWidth) {
         this.indicatorStrokeWidth = indicatorStrokeWidth;
+        invalidateConfig();
     }
 
     public int getIndicatorType() {
@@ -832,6 +2157,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorType(int indicatorType) {
         this.indicatorType = indicatorType;
+        invalidateConfig();
     }
 
     public int getIndicatorColor() {
@@ -840,7 +2166,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorColor(int indicatorColor) {
         this.indicatorColor = indicatorColor;
-        this.color.setColor(indicatorColor);
+        invalidateConfig();
     }
 
     public int getIndicatorRepeats() {
@@ -849,6 +2175,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorRepeats(int indicatorRepeats) {
         this.indicatorRepeats = indicatorRepeats;
+        applyTiming(indicatorDuration);
     }
 
     public int getIndicatorRepeatMode() {
@@ -857,6 +2184,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorRepeatMode(int indicatorRepeatMode) {
         this.indicatorRepeatMode = indicatorRepeatMode;
+        applyTiming(indicatorDuration);
     }
 
     public long getIndicatorDuration() {
@@ -864,7 +2192,13 @@ public class IndicatorView extends View {
     }
 
     public void setIndicatorDuration(long indicatorDuration) {
+        if (this.indicatorDuration == indicatorDuration)
+            return;
+
+        long previousDuration = this.indicatorDuration;
+
         this.indicatorDuration = indicatorDuration;
+        applyTiming(previousDuration);
     }
 
     public float getIndicatorMinOpacity() {
@@ -873,6 +2207,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMinOpacity(float indicatorMinOpacity) {
         this.indicatorMinOpacity = indicatorMinOpacity;
+        invalidateConfig();
     }
 
     public float getIndicatorMaxOpacity() {
@@ -881,6 +2216,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMaxOpacity(float indicatorMaxOpacity) {
         this.indicatorMaxOpacity = indicatorMaxOpacity;
+        invalidateConfig();
     }
 
     public float getIndicatorClipRadius() {
@@ -889,6 +2225,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorClipRadius(float indicatorClipRadius) {
         this.indicatorClipRadius = indicatorClipRadius;
+        invalidateConfig();
     }
 
     public float getIndicatorMaxRadius() {
@@ -897,6 +2234,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMaxRadius(float indicatorMaxRadius) {
         this.indicatorMaxRadius = indicatorMaxRadius;
+        invalidateConfig();
     }
 
     public float getIndicatorMinRadius() {
@@ -905,6 +2243,7 @@ public class IndicatorView extends View {
 
     public void setIndicatorMinRadius(float indicatorMinRadius) {
         this.indicatorMinRadius = indicatorMinRadius;
+        invalidateConfig();
     }
 
     public int getIndicatorCount() {
@@ -916,6 +2255,7 @@ public class IndicatorView extends View {
             return;
 
         this.indicatorCount = indicatorCount;
+        this.indicatorsChanged = true;
     }
 
     public IndicatorLayoutBehaviour getBehaviour() {
@@ -940,6 +2280,7 @@ public class IndicatorView extends View {
 
     public void setCenterX(int centerX) {
         this.centerX = centerX;
+        invalidateConfig();
     }
 
     public float getCenterY() {
@@ -948,6 +2289,7 @@ public class IndicatorView extends View {
 
     public void setCenterY(int centerY) {
         this.centerY = centerY;
+        invalidateConfig();
     }
 
     public Bounds getBounds() {
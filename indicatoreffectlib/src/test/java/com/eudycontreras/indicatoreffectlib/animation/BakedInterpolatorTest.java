@@ -0,0 +1,103 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class BakedInterpolatorTest {
+
+    private static final int STEPS = 10000;
+
+    @Before
+    public void setUp() {
+        BakedInterpolator.clear();
+    }
+
+    @Test
+    public void endpointsMatchTheSource() {
+        Interpolator baked = new BakedInterpolator(input -> 0.25f + (input * input * 0.5f));
+
+        assertEquals(0.25f, baked.getInterpolation(0f), 0f);
+        assertEquals(0.75f, baked.getInterpolation(1f), 0f);
+        assertEquals(0.25f, baked.getInterpolation(-1f), 0f);
+        assertEquals(0.75f, baked.getInterpolation(2f), 0f);
+    }
+
+    @Test
+    public void monotoneCurveStaysMonotone() {
+        Interpolator baked = new BakedInterpolator(BakedInterpolatorTest::smoothStep);
+
+        float previous = baked.getInterpolation(0f);
+
+        for (int i = 1; i <= STEPS; i++) {
+            float value = baked.getInterpolation((float) i / STEPS);
+
+            assertTrue("decreased at step " + i, value >= previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void errorStaysWithinTheLinearInterpolationBound() {
+        Interpolator baked = new BakedInterpolator(BakedInterpolatorTest::smoothStep);
+
+        float step = 1f / BakedInterpolator.DEFAULT_SAMPLE_COUNT;
+        float bound = (6f / 8f) * step * step + 1e-6f;
+
+        for (int i = 0; i <= STEPS; i++) {
+            float input = (float) i / STEPS;
+
+            assertEquals("at " + input, smoothStep(input), baked.getInterpolation(input), bound);
+        }
+    }
+
+    @Test
+    public void linearAndBakedInterpolatorsPassThrough() {
+        Interpolator linear = new LinearInterpolator();
+        Interpolator baked = new BakedInterpolator(BakedInterpolatorTest::smoothStep);
+
+        assertSame(linear, BakedInterpolator.of(linear));
+        assertSame(baked, BakedInterpolator.of(baked));
+        assertNull(BakedInterpolator.of(null));
+    }
+
+    @Test
+    public void separateInstancesOfTheSameCurveShareATable() {
+        Interpolator first = BakedInterpolator.of(input -> smoothStep(input));
+        Interpolator second = BakedInterpolator.of(input -> smoothStep(input));
+        Interpolator other = BakedInterpolator.of(input -> input * input);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+    }
+
+    @Test
+    public void keyedCurvesShareTablesWithUnkeyedOnes() {
+        Interpolator keyed = BakedInterpolator.of("smoothStep", BakedInterpolatorTest::smoothStep);
+
+        assertSame(keyed, BakedInterpolator.of(input -> smoothStep(input)));
+        assertSame(keyed, BakedInterpolator.of("smoothStep", input -> input));
+    }
+
+    private static float smoothStep(float input) {
+        return input * input * (3f - 2f * input);
+    }
+}
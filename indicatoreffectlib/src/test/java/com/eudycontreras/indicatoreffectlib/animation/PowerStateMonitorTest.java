@@ -0,0 +1,160 @@
+package com.eudycontreras.indicatoreffectlib.animation;
+
+import android.os.PowerManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.eudycontreras.indicatoreffectlib.animation.PowerStateMonitor.STATE_LOW_POWER;
+import static com.eudycontreras.indicatoreffectlib.animation.PowerStateMonitor.STATE_NORMAL;
+import static com.eudycontreras.indicatoreffectlib.animation.PowerStateMonitor.STATE_STATIC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class PowerStateMonitorTest {
+
+    private FakeSignals signals;
+    private PowerStateMonitor monitor;
+
+    private final List<Integer> states = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        signals = new FakeSignals();
+        monitor = new PowerStateMonitor(signals);
+        states.clear();
+    }
+
+    @Test
+    public void normalWithoutAnySignal() {
+        assertEquals(STATE_NORMAL, PowerStateMonitor.getState(1f, PowerManager.THERMAL_STATUS_NONE, false));
+        assertEquals(STATE_NORMAL, PowerStateMonitor.getState(2f, PowerManager.THERMAL_STATUS_LIGHT, false));
+    }
+
+    @Test
+    public void staticWhenAnimationsAreOffOrSeverelyThrottled() {
+        assertEquals(STATE_STATIC, PowerStateMonitor.getState(0f, PowerManager.THERMAL_STATUS_NONE, false));
+        assertEquals(STATE_STATIC, PowerStateMonitor.getState(1f, PowerManager.THERMAL_STATUS_SEVERE, false));
+        assertEquals(STATE_STATIC, PowerStateMonitor.getState(1f, PowerManager.THERMAL_STATUS_CRITICAL, true));
+        assertEquals(STATE_STATIC, PowerStateMonitor.getState(0f, PowerManager.THERMAL_STATUS_MODERATE, true));
+    }
+
+    @Test
+    public void lowPowerInPowerSaveModeOrModeratelyThrottled() {
+        assertEquals(STATE_LOW_POWER, PowerStateMonitor.getState(1f, PowerManager.THERMAL_STATUS_NONE, true));
+        assertEquals(STATE_LOW_POWER, PowerStateMonitor.getState(1f, PowerManager.THERMAL_STATUS_MODERATE, false));
+    }
+
+    @Test
+    public void registersWithTheFirstSubscriberAndUnregistersWithTheLast() {
+        PowerStateMonitor.StateListener first = states::add;
+        PowerStateMonitor.StateListener second = states::add;
+
+        assertFalse(monitor.isMonitoring());
+
+        monitor.subscribe(first);
+        monitor.subscribe(second);
+        monitor.subscribe(second);
+
+        assertTrue(monitor.isMonitoring());
+        assertEquals(1, signals.registrations);
+
+        monitor.unsubscribe(first);
+        monitor.unsubscribe(first);
+
+        assertTrue(monitor.isMonitoring());
+        assertEquals(0, signals.unregistrations);
+
+        monitor.unsubscribe(second);
+
+        assertFalse(monitor.isMonitoring());
+        assertEquals(1, signals.unregistrations);
+
+        monitor.subscribe(first);
+
+        assertEquals(2, signals.registrations);
+    }
+
+    @Test
+    public void subscribersAreNotifiedOfChanges() {
+        monitor.subscribe(states::add);
+        monitor.subscribe(states::add);
+
+        signals.powerSaveMode = true;
+        signals.onChange.run();
+
+        assertEquals(2, states.size());
+        assertEquals(STATE_LOW_POWER, (int) states.get(0));
+        assertEquals(STATE_LOW_POWER, monitor.getState());
+
+        signals.onChange.run();
+
+        assertEquals(2, states.size());
+
+        signals.durationScale = 2f;
+        signals.onChange.run();
+
+        assertEquals(4, states.size());
+        assertEquals(2f, monitor.getDurationScale(), 0f);
+    }
+
+    @Test
+    public void durationScaleIsReadDirectlyWhileNotMonitoring() {
+        signals.durationScale = 0.5f;
+
+        assertEquals(0.5f, monitor.getDurationScale(), 0f);
+        assertEquals(0, signals.registrations);
+    }
+
+    private static final class FakeSignals implements PowerStateMonitor.Signals {
+
+        private Runnable onChange;
+
+        private int registrations;
+        private int unregistrations;
+
+        private boolean powerSaveMode;
+        private int thermalStatus = PowerManager.THERMAL_STATUS_NONE;
+        private float durationScale = 1f;
+
+        @Override
+        public void register(Runnable onChange) {
+            this.onChange = onChange;
+            registrations++;
+        }
+
+        @Override
+        public void unregister() {
+            unregistrations++;
+        }
+
+        @Override
+        public boolean isPowerSaveMode() {
+            return powerSaveMode;
+        }
+
+        @Override
+        public int getThermalStatus() {
+            return thermalStatus;
+        }
+
+        @Override
+        public float getDurationScale() {
+            return durationScale;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.eudycontreras.indicatoreffectlib.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class FrameHistogramTest {
+
+    @Test
+    public void uniformDistribution() {
+        FrameHistogram histogram = new FrameHistogram(10, 20, 30, 40, 50, 60, 70, 80, 90, 100);
+
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getPercentile(0.5f));
+        assertEquals(90, histogram.getPercentile(0.9f));
+        assertEquals(100, histogram.getPercentile(0.99f));
+    }
+
+    @Test
+    public void valuesOnABoundFallInThatBucket() {
+        FrameHistogram histogram = new FrameHistogram(10, 20);
+
+        histogram.record(10);
+        histogram.record(20);
+
+        assertEquals(1, histogram.getBucketValue(0));
+        assertEquals(1, histogram.getBucketValue(1));
+        assertEquals(0, histogram.getBucketValue(2));
+    }
+
+    @Test
+    public void skewedDistributionReportsTheTail() {
+        FrameHistogram histogram = new FrameHistogram(1, 2, 5, 10, 100);
+
+        for (int i = 0; i < 95; i++) {
+            histogram.record(1);
+        }
+        for (int i = 0; i < 5; i++) {
+            histogram.record(1000);
+        }
+
+        assertEquals(1, histogram.getPercentile(0.5f));
+        assertEquals(1, histogram.getPercentile(0.9f));
+        assertEquals(1000, histogram.getPercentile(0.99f));
+        assertEquals(1000, histogram.getMax());
+    }
+
+    @Test
+    public void percentileIsCappedAtTheLargestValue() {
+        FrameHistogram histogram = new FrameHistogram(100, 1000);
+
+        histogram.record(3);
+        histogram.record(7);
+
+        assertEquals(7, histogram.getPercentile(0.5f));
+        assertEquals(7, histogram.getPercentile(0.99f));
+    }
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        FrameHistogram histogram = new FrameHistogram(10, 20);
+
+        assertEquals(0, histogram.getPercentile(0.5f));
+        assertEquals(3, histogram.getBucketCount());
+        assertEquals(Long.MAX_VALUE, histogram.getBucketBound(2));
+    }
+
+    @Test
+    public void resetClearsEverySample() {
+        FrameHistogram histogram = new FrameHistogram(10, 20);
+
+        histogram.record(5);
+        histogram.record(15);
+        histogram.record(500);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.99f));
+
+        for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+            assertEquals(0, histogram.getBucketValue(bucket));
+        }
+
+        histogram.record(12);
+
+        assertEquals(12, histogram.getPercentile(0.5f));
+    }
+}
@@ -0,0 +1,119 @@
+package com.eudycontreras.indicatoreffectlib.particles;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <b>Note:</b> Unlicensed private property of the author and creator
+ * unauthorized use of this class outside of the Indicator Effect project
+ * by the author may result on legal prosecution.
+ * <p>
+ * Created by <B>Eudy Contreras</B>
+ *
+ * @author  Eudy Contreras
+ * @version 1.0
+ * @since   2018-03-31
+ */
+public class IndicatorPoolTest {
+
+    @Before
+    public void setUp() {
+        IndicatorPool.clear();
+    }
+
+    @Test
+    public void secondReleaseIsRejected() {
+        ParticleIndicator indicator = new ParticleIndicator();
+
+        assertTrue(IndicatorPool.release(indicator));
+        assertFalse(IndicatorPool.release(indicator));
+        assertEquals(1, IndicatorPool.getSize());
+
+        ParticleIndicator first = IndicatorPool.obtain();
+        ParticleIndicator second = IndicatorPool.obtain();
+
+        assertSame(indicator, first);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void obtainedIndicatorCanBeReleasedAgain() {
+        ParticleIndicator indicator = new ParticleIndicator();
+
+        IndicatorPool.release(indicator);
+
+        assertSame(indicator, IndicatorPool.obtain());
+        assertTrue(IndicatorPool.release(indicator));
+    }
+
+    @Test
+    public void clearedIndicatorCanBeReleasedAgain() {
+        ParticleIndicator indicator = new ParticleIndicator();
+
+        IndicatorPool.release(indicator);
+        IndicatorPool.clear();
+
+        assertTrue(IndicatorPool.release(indicator));
+    }
+
+    @Test
+    public void secondViewReusesTheRingsOfTheFirst() {
+        ParticleIndicator[] first = new ParticleIndicator[3];
+
+        for (int i = 0; i < first.length; i++) {
+            first[i] = IndicatorPool.obtain();
+        }
+
+        ParticleIndicator[] released = first.clone();
+
+        IndicatorPool.releaseAll(first);
+
+        assertEquals(first.length, IndicatorPool.getSize());
+
+        for (ParticleIndicator indicator : first) {
+            assertNull(indicator);
+        }
+
+        ParticleIndicator[] second = new ParticleIndicator[3];
+
+        for (int i = 0; i < second.length; i++) {
+            second[i] = IndicatorPool.obtain();
+        }
+
+        assertEquals(0, IndicatorPool.getSize());
+
+        for (ParticleIndicator indicator : second) {
+            assertTrue(Arrays.asList(released).contains(indicator));
+        }
+    }
+
+    @Test
+    public void releaseAllSkipsEmptySlots() {
+        ParticleIndicator[] indicators = new ParticleIndicator[] { new ParticleIndicator(), null, new ParticleIndicator() };
+
+        IndicatorPool.releaseAll(indicators);
+        IndicatorPool.releaseAll(indicators);
+
+        assertEquals(2, IndicatorPool.getSize());
+    }
+
+    @Test
+    public void releaseResetsTheDecay() {
+        ParticleIndicator indicator = new ParticleIndicator();
+        float decay = indicator.getDecay();
+
+        indicator.setDecay(0.5f);
+        IndicatorPool.release(indicator);
+
+        assertEquals(decay, IndicatorPool.obtain().getDecay(), 0f);
+    }
+}